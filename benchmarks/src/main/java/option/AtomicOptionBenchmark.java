@@ -0,0 +1,62 @@
+package option;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.concurrent.TimeUnit;
+
+import static option.Option.Some;
+
+/**
+ * An optional value shared by four threads: {@link AtomicOption} against a field
+ * guarded by {@code synchronized}, for an update that changes the value and for one
+ * that is a no-op because the value is already present.
+ *
+ * @since 18.10.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AtomicOptionBenchmark {
+
+    private static final FunctionEx<Option<Integer>, Option<Integer>> INCREMENT = o -> Some(o.orElse(0) + 1);
+    private static final FunctionEx<Option<Integer>, Option<Integer>> KEEP = o -> o.isPresent() ? o : Some(0);
+
+    private final AtomicOption<Integer> atomic = new AtomicOption<>(Some(0));
+    private final AtomicOption<Integer> present = new AtomicOption<>(Some(0));
+    private Option<Integer> guarded = Some(0);
+    private Option<Integer> guardedPresent = Some(0);
+
+    @Benchmark
+    public Option<Integer> atomicIncrement() {
+        return atomic.updateAndGet(INCREMENT);
+    }
+
+    @Benchmark
+    public synchronized Option<Integer> synchronizedIncrement() throws Exception {
+        return guarded = INCREMENT.apply(guarded);
+    }
+
+    @Benchmark
+    public Option<Integer> atomicNoOp() {
+        return present.updateAndGet(KEEP);
+    }
+
+    @Benchmark
+    public synchronized Option<Integer> synchronizedNoOp() throws Exception {
+        return guardedPresent = KEEP.apply(guardedPresent);
+    }
+}
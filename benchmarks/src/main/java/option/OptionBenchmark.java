@@ -0,0 +1,165 @@
+package option;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static option.Option.None;
+import static option.Option.Some;
+
+/**
+ * Hot paths of {@link Option}: construction, map, flatMap, filter, orElseGet and
+ * iteration, each measured for the present ({@code some*}) and the empty ({@code none*}) path;
+ * and a recursive flatMap chain evaluated eagerly and by {@link OptionEval}.
+ *
+ * @since 18.10.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionBenchmark {
+
+    private static final int DEPTH = 1000;
+
+    private String value = "42";
+    private String nullValue = null;
+    private Option<String> some = Some(value);
+    private Option<String> none = None();
+    private int id = 42;
+    private OptionPipeline<String, Integer> pipeline = Option.<String>pipeline()
+            .map(String::trim)
+            .filterNot(String::isEmpty)
+            .map(Integer::valueOf)
+            .filter(i -> i > 0)
+            .flatMap(i -> Some(i * 2));
+
+    @Benchmark
+    public Option<String> someFactory() {
+        return Some(value);
+    }
+
+    @Benchmark
+    public Option<String> ofNullablePresent() {
+        return Option.ofNullable(value);
+    }
+
+    @Benchmark
+    public Option<String> ofNullableAbsent() {
+        return Option.ofNullable(nullValue);
+    }
+
+    @Benchmark
+    public Option<Integer> someMap() {
+        return some.map(String::length);
+    }
+
+    @Benchmark
+    public Option<Integer> noneMap() {
+        return none.map(String::length);
+    }
+
+    @Benchmark
+    public Option<Integer> someFlatMap() {
+        return some.flatMap(s -> Some(s.length()));
+    }
+
+    @Benchmark
+    public Option<Integer> noneFlatMap() {
+        return none.flatMap(s -> Some(s.length()));
+    }
+
+    @Benchmark
+    public Option<String> someFilter() {
+        return some.filter(s -> s.length() > 1);
+    }
+
+    @Benchmark
+    public Option<String> someFilterRejected() {
+        return some.filter(String::isEmpty);
+    }
+
+    @Benchmark
+    public Option<String> noneFilter() {
+        return none.filter(s -> s.length() > 1);
+    }
+
+    @Benchmark
+    public String someOrElseGet() {
+        return some.orElseGet(() -> "default");
+    }
+
+    @Benchmark
+    public String noneOrElseGet() {
+        return none.orElseGet(() -> "default");
+    }
+
+    @Benchmark
+    public void someIterator(Blackhole bh) {
+        for (String s : some) {
+            bh.consume(s);
+        }
+    }
+
+    @Benchmark
+    public void noneIterator(Blackhole bh) {
+        for (String s : none) {
+            bh.consume(s);
+        }
+    }
+
+    @Benchmark
+    public int boxedIdLookup() {
+        return Some(id).map(i -> i + 1).orElse(-1);
+    }
+
+    @Benchmark
+    public int primitiveIdLookup() {
+        return OptionInt.Some(id).map(i -> i + 1).orElse(-1);
+    }
+
+    @Benchmark
+    public Option<Integer> chainedSteps() {
+        return some.map(String::trim)
+                .filterNot(String::isEmpty)
+                .map(Integer::valueOf)
+                .filter(i -> i > 0)
+                .flatMap(i -> Some(i * 2));
+    }
+
+    @Benchmark
+    public Option<Integer> pipelineSteps() {
+        return pipeline.apply(value);
+    }
+
+    @Benchmark
+    public Option<Integer> recursiveFlatMapEager() {
+        return countDown(DEPTH);
+    }
+
+    @Benchmark
+    public Option<Integer> recursiveFlatMapTrampolined() {
+        return countDownEval(DEPTH).run();
+    }
+
+    private static Option<Integer> countDown(int n) {
+        if (n == 0) return Some(0);
+        return Some(n - 1).flatMap(OptionBenchmark::countDown);
+    }
+
+    private static OptionEval<Integer> countDownEval(int n) {
+        if (n == 0) return OptionEval.now(Some(0));
+        return OptionEval.now(Some(n - 1)).flatMap(OptionBenchmark::countDownEval);
+    }
+}
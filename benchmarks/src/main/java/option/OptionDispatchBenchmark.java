@@ -0,0 +1,98 @@
+package option;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.function.Function;
+import utils.function.Supplier;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static option.Option.None;
+import static option.Option.Some;
+
+/**
+ * Combinators of {@link Option} at call sites that see both {@code Some} and
+ * {@code None}: with a single mapping function ({@code bimorphic*}), and with four
+ * mapping functions so that the function call inside the combinator is megamorphic as
+ * well ({@code megamorphic*}). Results are per element.
+ *
+ * @since 18.10.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionDispatchBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final Supplier<Integer> ZERO = () -> 0;
+
+    private final Option<Integer>[] options = newArray();
+    private final Function<Integer, Integer>[] mappers = newMappers();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) options[i] = random.nextBoolean() ? Some(i) : None();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int bimorphicMapOrElse() {
+        Function<Integer, Integer> mapper = mappers[0];
+        int sum = 0;
+        for (Option<Integer> option : options) sum += option.map(mapper).orElse(0);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int megamorphicMapOrElse() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) sum += options[i].map(mappers[i & 3]).orElse(0);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int bimorphicFold() {
+        Function<Integer, Integer> mapper = mappers[0];
+        int sum = 0;
+        for (Option<Integer> option : options) sum += option.fold(ZERO, mapper);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int megamorphicFold() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) sum += options[i].fold(ZERO, mappers[i & 3]);
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Option<Integer>[] newArray() {
+        return (Option<Integer>[]) new Option<?>[SIZE];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Integer, Integer>[] newMappers() {
+        return (Function<Integer, Integer>[]) new Function<?, ?>[]{
+                (Function<Integer, Integer>) i -> i + 1,
+                (Function<Integer, Integer>) i -> i * 2,
+                (Function<Integer, Integer>) i -> i - 3,
+                (Function<Integer, Integer>) i -> i ^ 5};
+    }
+}
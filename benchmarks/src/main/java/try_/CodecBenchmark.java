@@ -0,0 +1,107 @@
+package try_;
+
+import option.Option;
+import option.OptionCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.codec.ValueCodecs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of a {@code Try<Option<String>>} through {@link TryCodec} into a direct
+ * buffer, against Java serialization of the same shape. {@code Option} and {@code Try}
+ * are not {@code Serializable}, so the baseline serializes a minimal serializable
+ * holder per level, which is a lower bound of what a reflective serializer writes.
+ *
+ * @since 18.10.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+    private static final String VALUE = "user:42:preferences:compact";
+
+    private final TryCodec<Option<String>> codec = TryCodec.of(OptionCodec.of(ValueCodecs.STRING));
+    private final TryCodec<Option<String>> tracingCodec = codec.withStackTrace(8);
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+
+    private final Try<Option<String>> success = Try.Success(Option.Some(VALUE));
+    private final Try<Option<String>> failure = Try.Failure(new IOException("connection reset by peer"));
+
+    private final Holder serializableSuccess = new Holder(new Holder(VALUE, null), null);
+    private final Holder serializableFailure = new Holder(null, new IOException("connection reset by peer"));
+
+    @Benchmark
+    public Try<Option<String>> codecSuccess() {
+        return roundTrip(codec, success);
+    }
+
+    @Benchmark
+    public Try<Option<String>> codecFailure() {
+        return roundTrip(codec, failure);
+    }
+
+    @Benchmark
+    public Try<Option<String>> codecFailureWithStackTrace() {
+        return roundTrip(tracingCodec, failure);
+    }
+
+    @Benchmark
+    public Object javaSerializationSuccess() throws Exception {
+        return roundTrip(serializableSuccess);
+    }
+
+    @Benchmark
+    public Object javaSerializationFailure() throws Exception {
+        return roundTrip(serializableFailure);
+    }
+
+    private Try<Option<String>> roundTrip(TryCodec<Option<String>> codec, Try<Option<String>> value) {
+        buffer.clear();
+        codec.write(value, buffer);
+        buffer.flip();
+        return codec.read(buffer);
+    }
+
+    private static Object roundTrip(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    private static final class Holder implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        final Object value;
+        final Throwable exception;
+
+        Holder(Object value, Throwable exception) {
+            this.value = value;
+            this.exception = exception;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package try_;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static try_.Try.Failure;
+import static try_.Try.Success;
+
+/**
+ * Hot paths of {@link Try}: asTry, map, flatMap, filter, recover, recoverWith and transform,
+ * each measured for the success ({@code success*}) and the failure ({@code failure*}) path;
+ * and a recursive flatMap chain evaluated eagerly and by {@link TryEval}.
+ *
+ * @since 18.10.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryBenchmark {
+
+    private static final int DEPTH = 1000;
+
+    private String value = "42";
+    private IOException exception = new IOException("benchmark");
+    private Try<String> success = Success(value);
+    private Try<String> failure = Failure(exception);
+    private Try<String> number = Success("123456");
+    private TryPipeline<String, Integer> pipeline = Try.<String>pipeline()
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .filter(i -> i > 0)
+            .flatMap(i -> Success(i * 2))
+            .recover(t -> -1);
+
+    @Benchmark
+    public Try<String> successAsTry() {
+        return Try.asTry(() -> value);
+    }
+
+    @Benchmark
+    public Try<String> failureAsTry() {
+        return Try.asTry(() -> {
+            throw exception;
+        });
+    }
+
+    @Benchmark
+    public Try<Integer> successMap() {
+        return success.map(String::length);
+    }
+
+    @Benchmark
+    public Try<Integer> failureMap() {
+        return failure.map(String::length);
+    }
+
+    @Benchmark
+    public Try<Integer> successFlatMap() {
+        return success.flatMap(s -> Success(s.length()));
+    }
+
+    @Benchmark
+    public Try<Integer> failureFlatMap() {
+        return failure.flatMap(s -> Success(s.length()));
+    }
+
+    @Benchmark
+    public Try<String> successFilter() {
+        return success.filter(s -> s.length() > 1);
+    }
+
+    @Benchmark
+    public Try<String> successFilterRejected() {
+        return success.filter(String::isEmpty);
+    }
+
+    @Benchmark
+    public Try<String> failureFilter() {
+        return failure.filter(s -> s.length() > 1);
+    }
+
+    @Benchmark
+    public Try<String> successRecover() {
+        return success.recover(Throwable::getMessage);
+    }
+
+    @Benchmark
+    public Try<String> failureRecover() {
+        return failure.recover(Throwable::getMessage);
+    }
+
+    @Benchmark
+    public Try<String> successRecoverWith() {
+        return success.recoverWith(t -> Success(t.getMessage()));
+    }
+
+    @Benchmark
+    public Try<String> failureRecoverWith() {
+        return failure.recoverWith(t -> Success(t.getMessage()));
+    }
+
+    @Benchmark
+    public Try<Integer> successTransform() {
+        return success.transform(s -> Success(s.length()), t -> Success(-1));
+    }
+
+    @Benchmark
+    public Try<Integer> failureTransform() {
+        return failure.transform(s -> Success(s.length()), t -> Success(-1));
+    }
+
+    @Benchmark
+    public Try<Integer> chainedSteps() {
+        return success.map(String::trim)
+                .map(Integer::valueOf)
+                .filter(i -> i > 0)
+                .flatMap(i -> Success(i * 2))
+                .recover(t -> -1);
+    }
+
+    @Benchmark
+    public Try<Integer> pipelineSteps() {
+        return pipeline.apply(value);
+    }
+
+    @Benchmark
+    public Integer parseBoxed() {
+        return number.map(Integer::valueOf).map(i -> i * 2).getOrElse(() -> -1);
+    }
+
+    @Benchmark
+    public int parsePrimitive() {
+        return number.mapToInt(Integer::parseInt).map(i -> i * 2).getOrElse(() -> -1);
+    }
+
+    @Benchmark
+    public Try<Integer> recursiveFlatMapEager() {
+        return countDown(DEPTH);
+    }
+
+    @Benchmark
+    public Try<Integer> recursiveFlatMapTrampolined() {
+        return countDownEval(DEPTH).run();
+    }
+
+    private static Try<Integer> countDown(int n) {
+        if (n == 0) return Success(0);
+        return Success(n - 1).flatMap(TryBenchmark::countDown);
+    }
+
+    private static TryEval<Integer> countDownEval(int n) {
+        if (n == 0) return TryEval.now(Success(0));
+        return TryEval.now(Success(n - 1)).flatMap(TryBenchmark::countDownEval);
+    }
+}
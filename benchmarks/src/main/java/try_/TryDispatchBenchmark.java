@@ -0,0 +1,98 @@
+package try_;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static try_.Try.Failure;
+import static try_.Try.Success;
+
+/**
+ * Combinators of {@link Try} at call sites that see both {@code Success} and
+ * {@code Failure}: with a single mapping function ({@code bimorphic*}), and with four
+ * mapping functions so that the function call inside the combinator is megamorphic as
+ * well ({@code megamorphic*}). Results are per element.
+ *
+ * @since 18.10.26
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryDispatchBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final Try<Integer> FAILURE = Failure(new IllegalStateException("benchmark"));
+    private static final FunctionEx<Throwable, Integer> RECOVER = t -> 0;
+
+    private final Try<Integer>[] tries = newArray();
+    private final FunctionEx<Integer, Integer>[] mappers = newMappers();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) tries[i] = random.nextBoolean() ? Success(i) : FAILURE;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int bimorphicMapRecover() {
+        FunctionEx<Integer, Integer> mapper = mappers[0];
+        int sum = 0;
+        for (Try<Integer> t : tries) sum += t.map(mapper).recover(RECOVER).get();
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int megamorphicMapRecover() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) sum += tries[i].map(mappers[i & 3]).recover(RECOVER).get();
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int bimorphicFold() {
+        FunctionEx<Integer, Integer> mapper = mappers[0];
+        int sum = 0;
+        for (Try<Integer> t : tries) sum += t.fold(RECOVER, mapper);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int megamorphicFold() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) sum += tries[i].fold(RECOVER, mappers[i & 3]);
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Try<Integer>[] newArray() {
+        return (Try<Integer>[]) new Try<?>[SIZE];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FunctionEx<Integer, Integer>[] newMappers() {
+        return (FunctionEx<Integer, Integer>[]) new FunctionEx<?, ?>[]{
+                (FunctionEx<Integer, Integer>) i -> i + 1,
+                (FunctionEx<Integer, Integer>) i -> i * 2,
+                (FunctionEx<Integer, Integer>) i -> i - 3,
+                (FunctionEx<Integer, Integer>) i -> i ^ 5};
+    }
+}
@@ -0,0 +1,102 @@
+package option;
+
+/**
+ * Presence bitmap shared by the columnar option arrays: bit {@code i} of the bitmap
+ * is set when element {@code i} holds a value. Bulk operations walk the bitmap a
+ * word at a time, so absent elements cost a single bit and are skipped 64 at once.
+ *
+ * @since 18.10.26
+ */
+abstract class AbstractOptionArray {
+
+    final int length;
+    final long[] presence;
+
+    AbstractOptionArray(int length) {
+        if (length < 0) throw new IllegalArgumentException("length should not be negative: " + length);
+        this.length = length;
+        this.presence = new long[(length + 63) >>> 6];
+    }
+
+    /**
+     * @return the number of elements, present or not
+     */
+    public final int length() {
+        return length;
+    }
+
+    /**
+     * @return {@code true} if element {@code index} holds a value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final boolean isPresent(int index) {
+        checkIndex(index);
+        return present(index);
+    }
+
+    /**
+     * @return {@code true} if element {@code index} holds no value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final boolean isEmpty(int index) {
+        return !isPresent(index);
+    }
+
+    /**
+     * @return the number of elements that hold a value
+     */
+    public final int count() {
+        int count = 0;
+        for (long word : presence) count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * Returns the index of the first present element at or after {@code from}, or
+     * {@code -1} if there is none. Iterate over the present elements with
+     * <pre>{@code
+     *     for (int i = array.nextPresent(0); i >= 0; i = array.nextPresent(i + 1)) { ... }
+     * }</pre>
+     */
+    public final int nextPresent(int from) {
+        if (from < 0) throw new IndexOutOfBoundsException("Index: " + from);
+        int wordIndex = from >>> 6;
+        if (wordIndex >= presence.length) return -1;
+        long word = presence[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            if (++wordIndex == presence.length) return -1;
+            word = presence[wordIndex];
+        }
+    }
+
+    final boolean present(int index) {
+        return (presence[index >>> 6] & (1L << index)) != 0;
+    }
+
+    final void markPresent(int index) {
+        presence[index >>> 6] |= 1L << index;
+    }
+
+    final void markEmpty(int index) {
+        presence[index >>> 6] &= ~(1L << index);
+    }
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append('[');
+        for (int i = 0; i < length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(present(i) ? "Some{" + valueToString(i) + "}" : "None");
+        }
+        return sb.append(']').toString();
+    }
+
+    abstract String valueToString(int index);
+}
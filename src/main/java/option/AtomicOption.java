@@ -0,0 +1,140 @@
+package option;
+
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free cell holding an {@link Option}, for shared state that is "an optional
+ * current value".
+ * <p/>
+ * Reads are a volatile load and updates a compare-and-set loop on the one field, so
+ * concurrent threads never block each other. Comparisons are by identity, as for
+ * {@code AtomicReference}. An update whose function returns its argument, such as
+ * {@code o -> o.isPresent() ? o : Some(x)}, is a no-op: it neither writes nor
+ * allocates, and {@link #setIfEmpty(Object)} and {@link #take()} do not write or
+ * allocate either when there is nothing to do.
+ * <pre>{@code
+ *     AtomicOption<Session> current = new AtomicOption<>();
+ *     current.setIfEmpty(session);
+ *     Option<Session> previous = current.take();
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @since 18.10.26
+ */
+public final class AtomicOption<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicOption, Option> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(AtomicOption.class, Option.class, "value");
+
+    private volatile Option<T> value;
+
+    /**
+     * Creates an empty cell.
+     */
+    public AtomicOption() {
+        this.value = Option.None();
+    }
+
+    public AtomicOption(Option<T> initial) {
+        this.value = Objects.requireNonNull(initial);
+    }
+
+    public Option<T> get() {
+        return value;
+    }
+
+    public void set(Option<T> option) {
+        value = Objects.requireNonNull(option);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Option<T> getAndSet(Option<T> option) {
+        return (Option<T>) VALUE.getAndSet(this, Objects.requireNonNull(option));
+    }
+
+    /**
+     * Sets the content to {@code update} if it is the very instance {@code expect}.
+     *
+     * @return {@code true} if the content was set
+     */
+    public boolean compareAndSet(Option<T> expect, Option<T> update) {
+        return VALUE.compareAndSet(this, expect, Objects.requireNonNull(update));
+    }
+
+    /**
+     * Replaces the content with the result of {@code f} applied to it, retrying on
+     * contention, so {@code f} may be applied several times and should not have side
+     * effects. An exception thrown by {@code f} is rethrown and leaves the content
+     * unchanged.
+     *
+     * @return the previous content
+     * @throws NullPointerException if {@code f} returns null
+     */
+    public Option<T> getAndUpdate(FunctionEx<? super Option<T>, ? extends Option<T>> f) {
+        for (;;) {
+            Option<T> current = value;
+            Option<T> next = apply(f, current);
+            if (next == current || VALUE.compareAndSet(this, current, next)) return current;
+        }
+    }
+
+    /**
+     * Same as {@link #getAndUpdate(FunctionEx)}, returning the new content.
+     */
+    public Option<T> updateAndGet(FunctionEx<? super Option<T>, ? extends Option<T>> f) {
+        for (;;) {
+            Option<T> current = value;
+            Option<T> next = apply(f, current);
+            if (next == current || VALUE.compareAndSet(this, current, next)) return next;
+        }
+    }
+
+    /**
+     * Sets the content to {@code Some(value)} if the cell is empty.
+     *
+     * @return {@code true} if the content was set
+     * @throws NullPointerException if {@code value} is null
+     */
+    public boolean setIfEmpty(T value) {
+        Objects.requireNonNull(value);
+        Option<T> next = null;
+        for (;;) {
+            Option<T> current = this.value;
+            if (current.isPresent()) return false;
+            if (next == null) next = Option.Some(value);
+            if (VALUE.compareAndSet(this, current, next)) return true;
+        }
+    }
+
+    /**
+     * Empties the cell.
+     *
+     * @return the previous content
+     */
+    public Option<T> take() {
+        Option<T> current = value;
+        if (current.isEmpty()) return current;
+        return getAndSet(Option.<T>None());
+    }
+
+    private static <T> Option<T> apply(FunctionEx<? super Option<T>, ? extends Option<T>> f, Option<T> current) {
+        Option<T> next = null;
+        try {
+            next = f.apply(current);
+        } catch (Exception e) {
+            Errors.throwAsUnchecked(e);
+        }
+        if (next == null) throw new NullPointerException("update function returned null");
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "AtomicOption{" + value + '}';
+    }
+}
@@ -0,0 +1,319 @@
+package option;
+
+import utils.function.LongConsumer;
+import utils.function.LongPredicate;
+import utils.function.LongUnaryOperator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap counterpart of {@link OptionLongArray}: a fixed-length array of optional
+ * {@code long} values kept in a {@code ByteBuffer}, usually a direct buffer or a
+ * memory-mapped file, so the data costs no heap and no GC time.
+ * <p/>
+ * The buffer layout is little-endian and self-describing, so a file written by
+ * {@link #create(Path, int)} can be reopened with {@link #open(Path)} without copying:
+ * <pre>
+ *     int    magic                       "OLA1"
+ *     int    length
+ *     long[] presence  (length + 63) / 64 words, bit i set when element i is present
+ *     long[] values    length slots, meaningless for absent elements
+ * </pre>
+ * Element access returns {@link OptionLong} views; the bulk scans walk the presence
+ * words and read the raw values in place.
+ * <p/>
+ * Instances are not thread-safe for writing.
+ *
+ * @since 18.10.26
+ */
+public final class MappedOptionLongArray {
+
+    private static final int MAGIC = 0x4f4c4131;
+    private static final int HEADER_SIZE = 8;
+
+    private final ByteBuffer buffer;
+    private final ByteBuffer source;
+    private final int length;
+    private final int words;
+    private final int valuesOffset;
+
+    private MappedOptionLongArray(ByteBuffer source) {
+        this.source = source;
+        this.buffer = littleEndian(source);
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("buffer does not hold an option long array");
+        }
+        this.length = buffer.getInt(4);
+        this.words = (length + 63) >>> 6;
+        this.valuesOffset = HEADER_SIZE + (words << 3);
+        if (length < 0 || buffer.capacity() < sizeInBytes(length)) {
+            throw new IllegalArgumentException("buffer is too small for " + length + " elements");
+        }
+    }
+
+    /**
+     * Returns the number of bytes needed to store {@code length} elements.
+     */
+    public static long sizeInBytes(int length) {
+        if (length < 0) throw new IllegalArgumentException("length should not be negative: " + length);
+        return HEADER_SIZE + (((long) (length + 63) >>> 6) << 3) + ((long) length << 3);
+    }
+
+    /**
+     * Creates an array of {@code length} empty elements in a new direct buffer.
+     */
+    public static MappedOptionLongArray allocateDirect(int length) {
+        return format(ByteBuffer.allocateDirect(checkedSize(length)), length);
+    }
+
+    /**
+     * Creates an array of {@code length} empty elements at the start of {@code buffer},
+     * overwriting its content.
+     */
+    public static MappedOptionLongArray format(ByteBuffer buffer, int length) {
+        ByteBuffer view = littleEndian(buffer);
+        if (view.capacity() < sizeInBytes(length)) {
+            throw new IllegalArgumentException("buffer is too small for " + length + " elements");
+        }
+        view.putInt(0, MAGIC);
+        view.putInt(4, length);
+        for (int offset = HEADER_SIZE, end = HEADER_SIZE + (((length + 63) >>> 6) << 3); offset < end; offset += 8) {
+            view.putLong(offset, 0L);
+        }
+        return new MappedOptionLongArray(buffer);
+    }
+
+    /**
+     * Wraps a buffer previously formatted by this class, without copying it.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold an array
+     */
+    public static MappedOptionLongArray wrap(ByteBuffer buffer) {
+        return new MappedOptionLongArray(buffer);
+    }
+
+    /**
+     * Creates (or truncates) {@code file}, maps it and formats it as an array of
+     * {@code length} empty elements.
+     */
+    public static MappedOptionLongArray create(Path file, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return format(channel.map(FileChannel.MapMode.READ_WRITE, 0, checkedSize(length)), length);
+        }
+    }
+
+    /**
+     * Maps an existing file for reading and writing. Nothing is copied: elements are
+     * paged in by the OS as they are accessed.
+     */
+    public static MappedOptionLongArray open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return wrap(channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Maps an existing file for reading only; the mutators throw
+     * {@code ReadOnlyBufferException}.
+     */
+    public static MappedOptionLongArray openReadOnly(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @return the number of elements, present or not
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return {@code true} if element {@code index} holds a value
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isPresent(int index) {
+        checkIndex(index);
+        return present(index);
+    }
+
+    /**
+     * Returns element {@code index} as an {@code OptionLong}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public OptionLong get(int index) {
+        checkIndex(index);
+        if (present(index)) return OptionLong.Some(value(index));
+        else return OptionLong.None();
+    }
+
+    /**
+     * Returns the value of element {@code index} if present, otherwise {@code other}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long orElse(int index, long other) {
+        checkIndex(index);
+        return present(index) ? value(index) : other;
+    }
+
+    /**
+     * Sets element {@code index} to {@code value}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void set(int index, long value) {
+        checkIndex(index);
+        buffer.putLong(valuesOffset + (index << 3), value);
+        int offset = wordOffset(index);
+        buffer.putLong(offset, buffer.getLong(offset) | (1L << index));
+    }
+
+    /**
+     * Sets element {@code index} to the value of {@code option}, or clears it if
+     * {@code option} is empty.
+     */
+    public void set(int index, OptionLong option) {
+        if (option.isPresent()) set(index, option.get());
+        else clear(index);
+    }
+
+    /**
+     * Makes element {@code index} empty.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void clear(int index) {
+        checkIndex(index);
+        int offset = wordOffset(index);
+        buffer.putLong(offset, buffer.getLong(offset) & ~(1L << index));
+        buffer.putLong(valuesOffset + (index << 3), 0L);
+    }
+
+    /**
+     * @return the number of elements that hold a value
+     */
+    public int count() {
+        int count = 0;
+        for (int w = 0; w < words; w++) count += Long.bitCount(word(w));
+        return count;
+    }
+
+    /**
+     * Returns the number of present values that match {@code p}.
+     */
+    public int count(LongPredicate p) {
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            for (long word = word(w); word != 0; word &= word - 1) {
+                if (p.test(value((w << 6) + Long.numberOfTrailingZeros(word)))) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Invokes {@code consumer} with every present value in index order.
+     */
+    public void forEach(LongConsumer consumer) {
+        for (int w = 0; w < words; w++) {
+            for (long word = word(w); word != 0; word &= word - 1) {
+                consumer.accept(value((w << 6) + Long.numberOfTrailingZeros(word)));
+            }
+        }
+    }
+
+    /**
+     * Returns a new heap array where every present value is replaced by the result of
+     * {@code mapper}.
+     */
+    public OptionLongArray map(LongUnaryOperator mapper) {
+        OptionLongArray result = new OptionLongArray(length);
+        for (int w = 0; w < words; w++) {
+            for (long word = word(w); word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                result.set(index, mapper.applyAsLong(value(index)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new heap array that keeps only the present values matching {@code p}.
+     */
+    public OptionLongArray filter(LongPredicate p) {
+        OptionLongArray result = new OptionLongArray(length);
+        for (int w = 0; w < words; w++) {
+            for (long word = word(w); word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                long value = value(index);
+                if (p.test(value)) result.set(index, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies this array to the heap.
+     */
+    public OptionLongArray toHeap() {
+        return filter(value -> true);
+    }
+
+    /**
+     * Writes changes back to the file if this array is backed by a mapped file;
+     * otherwise does nothing.
+     */
+    public void force() {
+        // the mapping is forced through the original buffer, duplicates do not know their file
+        if (source instanceof MappedByteBuffer) ((MappedByteBuffer) source).force();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedOptionLongArray{length=" + length + ", count=" + count() + '}';
+    }
+
+    private boolean present(int index) {
+        return (buffer.getLong(wordOffset(index)) & (1L << index)) != 0;
+    }
+
+    private long word(int w) {
+        return buffer.getLong(HEADER_SIZE + (w << 3));
+    }
+
+    private long value(int index) {
+        return buffer.getLong(valuesOffset + (index << 3));
+    }
+
+    private static int wordOffset(int index) {
+        return HEADER_SIZE + ((index >>> 6) << 3);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+    private static int checkedSize(int length) {
+        long size = sizeInBytes(length);
+        if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("too many elements for one buffer: " + length);
+        return (int) size;
+    }
+
+    private static ByteBuffer littleEndian(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        view.clear();
+        return view.order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
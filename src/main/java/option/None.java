@@ -2,7 +2,8 @@ package option;
 
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * This object represents non-existent values.
@@ -17,6 +18,11 @@ final class None<T> extends Option<T> {
         return Collections.emptyIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.emptySpliterator();
+    }
+
     /**
      * One per JVM
      */
@@ -27,16 +33,7 @@ final class None<T> extends Option<T> {
     }
 
     private None() {
-    }
-
-    @Override
-    public T get() {
-        throw new NoSuchElementException("Called get on None");
-    }
-
-    @Override
-    public boolean isPresent() {
-        return false;
+        super(null);
     }
 
     /**
@@ -1,5 +1,6 @@
 package option;
 
+import utils.control.CanonicalPool;
 import utils.function.Consumer;
 import utils.function.Function;
 import utils.function.Predicate;
@@ -7,7 +8,10 @@ import utils.function.Supplier;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This is implementation of optional value based on Optional.java from JDK 8
@@ -28,6 +32,10 @@ import java.util.Objects;
  * ({@code ==}), identity hash code, or synchronization) on instances of
  * {@code Option} may have unpredictable results and should be avoided.
  * <p/>
+ * <p>The value lives in this class and every combinator is {@code final} and tests it
+ * for {@code null}, so a call site that sees both {@code Some} and {@code None} costs a
+ * field load and a branch instead of a type-profiled virtual call, and stays cheap when
+ * it is megamorphic.
  * <p/>
  *
  * @author Dmitry Fateev
@@ -36,7 +44,19 @@ import java.util.Objects;
  */
 public abstract class Option<T> implements Iterable<T> {
 
-    protected Option(){}
+    /**
+     * Shared {@code Some} instances of the values pooled by {@link CanonicalPool}.
+     */
+    private static final CanonicalPool<Option<?>> POOL = new CanonicalPool<Option<?>>(Some<Object>::new);
+
+    /**
+     * The value of a {@code Some}, {@code null} for {@code None}.
+     */
+    final T value;
+
+    Option(T value) {
+        this.value = value;
+    }
 
     /**
      * If a value is present in this {@code Option}, returns the value,
@@ -46,14 +66,19 @@ public abstract class Option<T> implements Iterable<T> {
      * @throws java.util.NoSuchElementException if there is no value present
      * @see Option#isPresent()
      */
-    public abstract T get();
+    public final T get() {
+        if (value == null) throw new NoSuchElementException("Called get on None");
+        return value;
+    }
 
     /**
      * Return {@code true} if there is a value present, otherwise {@code false}.
      *
      * @return {@code true} if there is a value present, otherwise {@code false}
      */
-    public abstract boolean isPresent();
+    public final boolean isPresent() {
+        return value != null;
+    }
 
     /**
      * Returns true if the option is {@code None}, false otherwise.
@@ -61,7 +86,7 @@ public abstract class Option<T> implements Iterable<T> {
      * @return {@code true} if the option is {@code None}, otherwise {@code false}
      */
     public final boolean isEmpty() {
-        return !isPresent();
+        return value == null;
     }
 
     /**
@@ -81,15 +106,36 @@ public abstract class Option<T> implements Iterable<T> {
 
     /**
      * Returns an {@code Option} with the specified present non-null value.
+     * <p/>
+     * For booleans, small boxed integers, enum constants and the empty string the
+     * returned instance is shared, as described in {@link CanonicalPool}.
      *
      * @param <T>   the class of the value
      * @param value the value to be present, which must be non-null
      * @return an {@code Option} with the value present
      * @throws NullPointerException if value is null
      */
+    @SuppressWarnings("unchecked")
     public static <T> Option<T> Some(T value) {
         if (value == null) throw new NullPointerException("value should not be bull");
-        return new Some<>(value);
+        Option<T> pooled = (Option<T>) POOL.canonical(value);
+        return pooled != null ? pooled : new Some<>(value);
+    }
+
+    /**
+     * Returns a shared {@code Some} of {@code value}: the same instance for all values
+     * equal to it, like {@code String.intern}. Meant for a bounded set of values the
+     * application wraps over and over, since interned instances are never released.
+     *
+     * @param <T>   the class of the value
+     * @param value the value to be present, which must be non-null
+     * @return the shared {@code Some} of the value interned first among those equal to {@code value}
+     * @throws NullPointerException if value is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Option<T> intern(T value) {
+        if (value == null) throw new NullPointerException("value should not be null");
+        return (Option<T>) POOL.intern(value);
     }
 
     /**
@@ -106,6 +152,17 @@ public abstract class Option<T> implements Iterable<T> {
         else return Some(value);
     }
 
+    /**
+     * Returns a new empty {@link OptionPipeline}, to be extended with the steps that are
+     * then applied in one pass to every input.
+     * <pre>{@code
+     *     OptionPipeline<String, Integer> length = Option.<String>pipeline().map(String::length);
+     * }</pre>
+     */
+    public static <T> OptionPipeline<T, T> pipeline() {
+        return OptionPipeline.identity();
+    }
+
     /**
      * If a value is present, invoke the specified consumer with the value,
      * otherwise do nothing.
@@ -115,7 +172,7 @@ public abstract class Option<T> implements Iterable<T> {
      *                              null
      */
     public final void foreach(Consumer<? super T> consumer) {
-        if (isPresent()) consumer.accept(this.get());
+        if (value != null) consumer.accept(value);
     }
 
     /**
@@ -130,7 +187,7 @@ public abstract class Option<T> implements Iterable<T> {
      * @throws NullPointerException if the predicate is null
      */
     public final Option<T> filter(Predicate<? super T> p) {
-        if (isPresent() && p.test(this.get())) return this;
+        if (value != null && p.test(value)) return this;
         else return None.empty();
     }
 
@@ -142,7 +199,7 @@ public abstract class Option<T> implements Iterable<T> {
      * @throws NullPointerException if the predicate is null
      */
     public final Option<T> filterNot(Predicate<? super T> p) {
-        if (isEmpty() || !p.test(this.get())) return this;
+        if (value == null || !p.test(value)) return this;
         else return None.empty();
     }
 
@@ -159,8 +216,8 @@ public abstract class Option<T> implements Iterable<T> {
      * @throws NullPointerException if the mapping function is null
      */
     public final <U> Option<U> map(Function<? super T, ? extends U> mapper) {
-        if (isEmpty()) return None.empty();
-        else return ofNullable(mapper.apply(this.get()));
+        if (value == null) return None.empty();
+        else return ofNullable(mapper.apply(value));
     }
 
     /**
@@ -181,8 +238,27 @@ public abstract class Option<T> implements Iterable<T> {
      *                              a null result
      */
     public final <U> Option<U> flatMap(Function<? super T, ? extends Option<U>> mapper) {
-        if (isEmpty()) return None.empty();
-        else return Objects.requireNonNull(mapper.apply(this.get()));
+        if (value == null) return None.empty();
+        else return Objects.requireNonNull(mapper.apply(value));
+    }
+
+    /**
+     * Applies {@code ifPresent} to the value if present, otherwise returns the result
+     * of {@code ifEmpty}. Unlike {@code map(ifPresent).orElseGet(ifEmpty)} it allocates
+     * no intermediate {@code Option}, and the result may be {@code null}.
+     * <pre>{@code
+     *     String label = user.fold(() -> "anonymous", User::getName);
+     * }</pre>
+     *
+     * @param <U>       the type of the result
+     * @param ifEmpty   supplies the result if no value is present
+     * @param ifPresent applied to the value if present
+     * @return the result of the function for the case of this {@code Option}
+     * @throws NullPointerException if the function to apply is null
+     */
+    public final <U> U fold(Supplier<? extends U> ifEmpty, Function<? super T, ? extends U> ifPresent) {
+        if (value == null) return ifEmpty.get();
+        else return ifPresent.apply(value);
     }
 
     /**
@@ -193,7 +269,7 @@ public abstract class Option<T> implements Iterable<T> {
      * to {@code elem}, {@code false} otherwise.
      */
     public final boolean contains(T elem) {
-        return !isEmpty() && this.get().equals(elem);
+        return value != null && value.equals(elem);
     }
 
     /**
@@ -205,7 +281,7 @@ public abstract class Option<T> implements Iterable<T> {
      * @throws NullPointerException if the predicate is null
      */
     public final boolean exist(Predicate<? super T> p) {
-        return !isEmpty() && p.test(this.get());
+        return value != null && p.test(value);
     }
 
     /**
@@ -216,7 +292,7 @@ public abstract class Option<T> implements Iterable<T> {
      * @throws NullPointerException if the predicate is null
      */
     public final boolean forall(Predicate<? super T> p) {
-        return isEmpty() || p.test(this.get());
+        return value == null || p.test(value);
     }
 
     /**
@@ -224,8 +300,19 @@ public abstract class Option<T> implements Iterable<T> {
      * if it is nonempty, or the None list if the {@code option} is none.
      */
     public final List<T> toList() {
-        if (isEmpty()) return Collections.emptyList();
-        else return Collections.singletonList(this.get());
+        if (value == null) return Collections.emptyList();
+        else return Collections.singletonList(value);
+    }
+
+    /**
+     * Returns a sequential {@code Stream} of the value if present, otherwise an empty
+     * {@code Stream}. The stream is exactly sized, so terminal operations such as
+     * {@code count} or {@code toArray} do not iterate to learn its size.
+     *
+     * @return a stream of zero or one element
+     */
+    public final Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
     }
 
     /**
@@ -236,7 +323,7 @@ public abstract class Option<T> implements Iterable<T> {
      * @return the value, if present, otherwise {@code other}
      */
     public final T orElse(T other) {
-        return isEmpty() ? other : this.get();
+        return value == null ? other : value;
     }
 
     /**
@@ -265,7 +352,7 @@ public abstract class Option<T> implements Iterable<T> {
      *                              null
      */
     public final T orElseGet(Supplier<? extends T> other) {
-        return isPresent() ? this.get() : other.get();
+        return value != null ? value : other.get();
     }
 
     /**
@@ -283,7 +370,7 @@ public abstract class Option<T> implements Iterable<T> {
      *                              argument list can be used as the supplier.
      */
     public final <X extends Throwable> T orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
-        if (isPresent()) return this.get();
+        if (value != null) return value;
         else throw exceptionSupplier.get();
     }
 
@@ -0,0 +1,176 @@
+package option;
+
+import utils.function.Consumer;
+import utils.function.Function;
+import utils.function.Predicate;
+
+import java.util.Objects;
+
+/**
+ * A fixed-length array of optional values stored in columnar form: the values are kept
+ * in a plain array and their presence in a bitmap, instead of one {@code Some} object
+ * per element as in an {@code Option<T>[]}.
+ * <p/>
+ * {@link #get(int)} returns an {@code Option} view of an element, while the bulk
+ * operations ({@link #count()}, {@link #forEach(Consumer)}, {@link #map(Function)},
+ * {@link #filter(Predicate)}) work on the raw values and never create an
+ * {@code Option} per element.
+ * <p/>
+ * Instances are not thread-safe.
+ *
+ * @param <T> the type of the values
+ * @see OptionLongArray
+ * @since 18.10.26
+ */
+public final class OptionArray<T> extends AbstractOptionArray {
+
+    private final Object[] values;
+
+    /**
+     * Creates an array of {@code length} empty elements.
+     */
+    public OptionArray(int length) {
+        super(length);
+        this.values = new Object[length];
+    }
+
+    /**
+     * Creates an array holding the given options in order.
+     */
+    @SafeVarargs
+    public static <T> OptionArray<T> of(Option<? extends T>... options) {
+        OptionArray<T> array = new OptionArray<>(options.length);
+        for (int i = 0; i < options.length; i++) array.set(i, options[i]);
+        return array;
+    }
+
+    /**
+     * Returns element {@code index} as an {@code Option}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Option<T> get(int index) {
+        checkIndex(index);
+        if (present(index)) return Option.Some(value(index));
+        else return None.empty();
+    }
+
+    /**
+     * Returns the value of element {@code index} if present, otherwise {@code other}.
+     * Unlike {@link #get(int)} this never allocates.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public T orElse(int index, T other) {
+        checkIndex(index);
+        return present(index) ? value(index) : other;
+    }
+
+    /**
+     * Sets element {@code index} to {@code value}.
+     *
+     * @throws NullPointerException      if {@code value} is null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void set(int index, T value) {
+        Objects.requireNonNull(value, "value should not be null");
+        checkIndex(index);
+        values[index] = value;
+        markPresent(index);
+    }
+
+    /**
+     * Sets element {@code index} to the value of {@code option}, or clears it if
+     * {@code option} is empty.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void set(int index, Option<? extends T> option) {
+        if (option.isPresent()) set(index, option.get());
+        else clear(index);
+    }
+
+    /**
+     * Makes element {@code index} empty.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void clear(int index) {
+        checkIndex(index);
+        values[index] = null;
+        markEmpty(index);
+    }
+
+    /**
+     * Returns the number of present values that match {@code p}.
+     */
+    public int count(Predicate<? super T> p) {
+        int count = 0;
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                if (p.test(value((w << 6) + Long.numberOfTrailingZeros(word)))) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Invokes {@code consumer} with every present value in index order.
+     */
+    public void forEach(Consumer<? super T> consumer) {
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                consumer.accept(value((w << 6) + Long.numberOfTrailingZeros(word)));
+            }
+        }
+    }
+
+    /**
+     * Returns a new array of the same length where every present value is replaced by
+     * the result of {@code mapper}; as in {@link Option#map(Function)} a null result
+     * makes the element empty.
+     */
+    public <U> OptionArray<U> map(Function<? super T, ? extends U> mapper) {
+        OptionArray<U> result = new OptionArray<>(length);
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                U mapped = mapper.apply(value(index));
+                if (mapped != null) {
+                    result.values[index] = mapped;
+                    result.markPresent(index);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new array of the same length that keeps only the present values
+     * matching {@code p}.
+     */
+    public OptionArray<T> filter(Predicate<? super T> p) {
+        OptionArray<T> result = new OptionArray<>(length);
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                T value = value(index);
+                if (p.test(value)) {
+                    result.values[index] = value;
+                    result.markPresent(index);
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int index) {
+        return (T) values[index];
+    }
+
+    @Override
+    String valueToString(int index) {
+        return String.valueOf(values[index]);
+    }
+}
@@ -0,0 +1,211 @@
+package option;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A loading cache of optional values that remembers absent keys as well as present ones.
+ * <p/>
+ * Values are loaded through a {@code FunctionEx<K, Option<V>>}. Both outcomes are cached:
+ * {@code Some} results for {@link Builder#presentTtl(long, TimeUnit)} and {@code None}
+ * results for {@link Builder#absentTtl(long, TimeUnit)}, each bounded in size. Absent keys
+ * are all mapped to the single shared {@code None} instance. Concurrent lookups of the
+ * same missing key wait for one load instead of all hitting the backing store.
+ * <p/>
+ * The cache is built on segmented Guava caches, so lookups of different keys contend
+ * only within a segment; {@link Builder#concurrencyLevel(int)} sets the number of
+ * segments. Exceptions thrown by the loader are not cached and are rethrown to every
+ * caller waiting for that load.
+ * <pre>{@code
+ *     OptionCache<Long, User> users = OptionCache.newBuilder()
+ *             .maximumSize(100_000)
+ *             .presentTtl(10, TimeUnit.MINUTES)
+ *             .absentTtl(30, TimeUnit.SECONDS)
+ *             .build(id -> Option.ofNullable(dao.find(id)));
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 18.10.26
+ */
+public final class OptionCache<K, V> {
+
+    /**
+     * Thrown out of a load to tell the waiters that the key is absent, never escapes the cache.
+     */
+    private static final Exception ABSENT = new Exception("absent", null, false, false) {
+        private static final long serialVersionUID = 1L;
+    };
+
+    private final FunctionEx<? super K, ? extends Option<? extends V>> loader;
+    private final Cache<K, Option<V>> present;
+    private final Cache<K, Option<V>> absent;
+
+    private OptionCache(Builder builder, FunctionEx<? super K, ? extends Option<? extends V>> loader) {
+        this.loader = loader;
+        this.present = CacheBuilder.newBuilder()
+                .maximumSize(builder.maximumSize)
+                .expireAfterWrite(builder.presentTtlNanos, TimeUnit.NANOSECONDS)
+                .concurrencyLevel(builder.concurrencyLevel)
+                .build();
+        this.absent = CacheBuilder.newBuilder()
+                .maximumSize(builder.maximumAbsentSize < 0 ? builder.maximumSize : builder.maximumAbsentSize)
+                .expireAfterWrite(builder.absentTtlNanos, TimeUnit.NANOSECONDS)
+                .concurrencyLevel(builder.concurrencyLevel)
+                .build();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached option for {@code key}, loading it if it is not cached or expired.
+     * Throws whatever the loader throws.
+     */
+    public Option<V> get(final K key) {
+        Objects.requireNonNull(key);
+        Option<V> none = absent.getIfPresent(key);
+        if (none != null) return none;
+        try {
+            return present.get(key, () -> {
+                Option<? extends V> loaded = Objects.requireNonNull(loader.apply(key), "loader returned null");
+                if (loaded.isEmpty()) {
+                    absent.put(key, Option.<V>None());
+                    throw ABSENT;
+                }
+                return OptionCache.<V>narrow(loaded);
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            if (e.getCause() != ABSENT) Errors.throwAsUnchecked(e.getCause());
+            return Option.None();
+        }
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, replacing a previous present or absent entry.
+     */
+    public void put(K key, Option<? extends V> value) {
+        if (value.isPresent()) {
+            absent.invalidate(key);
+            present.put(key, OptionCache.<V>narrow(value));
+        } else {
+            present.invalidate(key);
+            absent.put(key, Option.<V>None());
+        }
+    }
+
+    /**
+     * Discards the entry of {@code key}, present or absent.
+     */
+    public void invalidate(K key) {
+        present.invalidate(key);
+        absent.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        present.invalidateAll();
+        absent.invalidateAll();
+    }
+
+    /**
+     * @return the approximate number of cached present entries
+     */
+    public long presentSize() {
+        return present.size();
+    }
+
+    /**
+     * @return the approximate number of cached absent entries
+     */
+    public long absentSize() {
+        return absent.size();
+    }
+
+    /**
+     * {@code Option} is immutable, so an {@code Option<? extends V>} can safely be used
+     * as an {@code Option<V>}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> Option<V> narrow(Option<? extends V> option) {
+        return (Option<V>) option;
+    }
+
+    /**
+     * Builder of {@link OptionCache}. By default both kinds of entries are kept for
+     * one minute and at most 10 000 of each are kept.
+     */
+    public static final class Builder {
+
+        private long maximumSize = 10000;
+        private long maximumAbsentSize = -1;
+        private long presentTtlNanos = TimeUnit.MINUTES.toNanos(1);
+        private long absentTtlNanos = TimeUnit.MINUTES.toNanos(1);
+        private int concurrencyLevel = 16;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximum number of present entries, and of absent entries unless
+         * {@link #maximumAbsentSize(long)} is set. Least recently used entries are evicted first.
+         */
+        public Builder maximumSize(long size) {
+            if (size < 0) throw new IllegalArgumentException("size should not be negative: " + size);
+            this.maximumSize = size;
+            return this;
+        }
+
+        /**
+         * Maximum number of absent entries.
+         */
+        public Builder maximumAbsentSize(long size) {
+            if (size < 0) throw new IllegalArgumentException("size should not be negative: " + size);
+            this.maximumAbsentSize = size;
+            return this;
+        }
+
+        /**
+         * How long a {@code Some} result stays cached after it was loaded.
+         */
+        public Builder presentTtl(long duration, TimeUnit unit) {
+            this.presentTtlNanos = checkedTtl(duration, unit);
+            return this;
+        }
+
+        /**
+         * How long a {@code None} result stays cached after it was loaded.
+         */
+        public Builder absentTtl(long duration, TimeUnit unit) {
+            this.absentTtlNanos = checkedTtl(duration, unit);
+            return this;
+        }
+
+        /**
+         * Number of independently locked segments; should be about the number of threads
+         * that update the cache at the same time.
+         */
+        public Builder concurrencyLevel(int level) {
+            if (level <= 0) throw new IllegalArgumentException("level should be positive: " + level);
+            this.concurrencyLevel = level;
+            return this;
+        }
+
+        public <K, V> OptionCache<K, V> build(FunctionEx<? super K, ? extends Option<? extends V>> loader) {
+            return new OptionCache<>(this, Objects.requireNonNull(loader));
+        }
+
+        private static long checkedTtl(long duration, TimeUnit unit) {
+            if (duration < 0) throw new IllegalArgumentException("duration should not be negative: " + duration);
+            return unit.toNanos(duration);
+        }
+    }
+}
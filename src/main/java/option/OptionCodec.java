@@ -0,0 +1,105 @@
+package option;
+
+import utils.codec.ValueCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Binary {@link ValueCodec} of {@link Option}: a one-byte tag, followed for a
+ * {@code Some} by its value as written by the value codec.
+ * <pre>
+ *     0x00            None
+ *     0x01 value      Some
+ * </pre>
+ * An {@code OptionCodec} is a value codec itself, so nested options, or options inside
+ * a {@code Try}, are encoded by composing codecs:
+ * <pre>{@code
+ *     ValueCodec<Option<Option<String>>> codec = OptionCodec.of(OptionCodec.of(ValueCodecs.STRING));
+ *     codec.write(Some(Some("a")), buffer);
+ * }</pre>
+ * The static methods encode the primitive specializations with the same tags and the
+ * unboxed value, e.g. five bytes for a present {@link OptionInt}.
+ *
+ * @param <T> the type of the values
+ * @since 18.10.26
+ */
+public final class OptionCodec<T> implements ValueCodec<Option<T>> {
+
+    private static final byte NONE = 0x00;
+    private static final byte SOME = 0x01;
+
+    private final ValueCodec<T> values;
+
+    private OptionCodec(ValueCodec<T> values) {
+        this.values = values;
+    }
+
+    /**
+     * Returns a codec of options whose values are encoded by {@code values}.
+     */
+    public static <T> OptionCodec<T> of(ValueCodec<T> values) {
+        return new OptionCodec<>(Objects.requireNonNull(values));
+    }
+
+    @Override
+    public void write(Option<T> option, ByteBuffer buffer) {
+        if (option.isEmpty()) {
+            buffer.put(NONE);
+        } else {
+            buffer.put(SOME);
+            values.write(option.get(), buffer);
+        }
+    }
+
+    @Override
+    public Option<T> read(ByteBuffer buffer) {
+        if (isPresent(buffer.get())) return Option.Some(values.read(buffer));
+        else return Option.None();
+    }
+
+    public static void write(OptionInt option, ByteBuffer buffer) {
+        if (option.isEmpty()) {
+            buffer.put(NONE);
+        } else {
+            buffer.put(SOME);
+            buffer.putInt(option.get());
+        }
+    }
+
+    public static void write(OptionLong option, ByteBuffer buffer) {
+        if (option.isEmpty()) {
+            buffer.put(NONE);
+        } else {
+            buffer.put(SOME);
+            buffer.putLong(option.get());
+        }
+    }
+
+    public static void write(OptionDouble option, ByteBuffer buffer) {
+        if (option.isEmpty()) {
+            buffer.put(NONE);
+        } else {
+            buffer.put(SOME);
+            buffer.putDouble(option.get());
+        }
+    }
+
+    public static OptionInt readInt(ByteBuffer buffer) {
+        return isPresent(buffer.get()) ? OptionInt.Some(buffer.getInt()) : OptionInt.None();
+    }
+
+    public static OptionLong readLong(ByteBuffer buffer) {
+        return isPresent(buffer.get()) ? OptionLong.Some(buffer.getLong()) : OptionLong.None();
+    }
+
+    public static OptionDouble readDouble(ByteBuffer buffer) {
+        return isPresent(buffer.get()) ? OptionDouble.Some(buffer.getDouble()) : OptionDouble.None();
+    }
+
+    private static boolean isPresent(byte tag) {
+        if (tag == SOME) return true;
+        if (tag == NONE) return false;
+        throw new IllegalArgumentException("not an option tag: " + tag);
+    }
+}
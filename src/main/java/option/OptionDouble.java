@@ -0,0 +1,277 @@
+package option;
+
+import utils.function.DoubleConsumer;
+import utils.function.DoubleFunction;
+import utils.function.DoublePredicate;
+import utils.function.DoubleSupplier;
+import utils.function.DoubleUnaryOperator;
+import utils.function.Supplier;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A container object which may or may not contain a {@code double} value.
+ * This is the primitive specialization of {@link Option} for {@code double}: the value
+ * is kept unboxed and there is exactly one empty instance per JVM, so neither
+ * {@link #None()} nor the combinators on an absent value allocate.
+ * <p/>
+ * <p>This is a <a href="../lang/doc-files/ValueBased.html">value-based</a>
+ * class; use of identity-sensitive operations (including reference equality
+ * ({@code ==}), identity hash code, or synchronization) on instances of
+ * {@code OptionDouble} may have unpredictable results and should be avoided.
+ *
+ * @see Option
+ * @since 18.10.26
+ */
+public final class OptionDouble {
+
+    /**
+     * One per JVM
+     */
+    private static final OptionDouble EMPTY = new OptionDouble();
+
+    private final boolean present;
+    private final double value;
+
+    private OptionDouble() {
+        this.present = false;
+        this.value = 0;
+    }
+
+    private OptionDouble(double value) {
+        this.present = true;
+        this.value = value;
+    }
+
+    /**
+     * Returns an empty {@code OptionDouble} instance.
+     *
+     * @return an empty {@code OptionDouble}
+     */
+    public static OptionDouble None() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an {@code OptionDouble} with the specified value present.
+     *
+     * @param value the value to be present
+     * @return an {@code OptionDouble} with the value present
+     */
+    public static OptionDouble Some(double value) {
+        return new OptionDouble(value);
+    }
+
+    /**
+     * Converts a boxed {@code Option} to its primitive specialization.
+     *
+     * @param option the option to convert
+     * @return an {@code OptionDouble} holding the unboxed value of {@code option}
+     * if it is present, otherwise an empty {@code OptionDouble}
+     * @throws NullPointerException if {@code option} is null
+     */
+    public static OptionDouble of(Option<? extends Double> option) {
+        return option.isPresent() ? Some(option.get()) : EMPTY;
+    }
+
+    /**
+     * If a value is present in this {@code OptionDouble}, returns the value,
+     * otherwise throws {@code NoSuchElementException}.
+     *
+     * @return the value held by this {@code OptionDouble}
+     * @throws NoSuchElementException if there is no value present
+     * @see OptionDouble#isPresent()
+     */
+    public double get() {
+        if (!present) throw new NoSuchElementException("Called get on None");
+        return value;
+    }
+
+    /**
+     * Return {@code true} if there is a value present, otherwise {@code false}.
+     *
+     * @return {@code true} if there is a value present, otherwise {@code false}
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * Returns true if the option is {@code None}, false otherwise.
+     *
+     * @return {@code true} if the option is {@code None}, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return !present;
+    }
+
+    /**
+     * If a value is present, invoke the specified consumer with the value,
+     * otherwise do nothing.
+     *
+     * @param consumer block to be executed if a value is present
+     * @throws NullPointerException if value is present and {@code consumer} is null
+     */
+    public void foreach(DoubleConsumer consumer) {
+        if (present) consumer.accept(value);
+    }
+
+    /**
+     * If a value is present, and the value matches the given predicate,
+     * return this {@code OptionDouble}, otherwise return a {@code None}.
+     *
+     * @param p a predicate to apply to the value, if present
+     * @throws NullPointerException if value is present and the predicate is null
+     */
+    public OptionDouble filter(DoublePredicate p) {
+        if (present && p.test(value)) return this;
+        else return EMPTY;
+    }
+
+    /**
+     * Returns this {@code OptionDouble} if it is empty or applying the predicate {@code p}
+     * to its value returns {@code false}. Otherwise, return {@code None}.
+     *
+     * @param p the predicate used for testing.
+     * @throws NullPointerException if value is present and the predicate is null
+     */
+    public OptionDouble filterNot(DoublePredicate p) {
+        if (!present || !p.test(value)) return this;
+        else return EMPTY;
+    }
+
+    /**
+     * If a value is present, apply the provided operator to it and return an
+     * {@code OptionDouble} describing the result. Otherwise return a {@code None}.
+     *
+     * @param mapper an operator to apply to the value, if present
+     * @throws NullPointerException if value is present and the operator is null
+     */
+    public OptionDouble map(DoubleUnaryOperator mapper) {
+        if (!present) return EMPTY;
+        else return Some(mapper.applyAsDouble(value));
+    }
+
+    /**
+     * If a value is present, apply the provided mapping function to it,
+     * and if the result is non-null, return an {@code Option} describing the
+     * result. Otherwise return a {@code None}.
+     *
+     * @param <U>    The type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if present
+     * @throws NullPointerException if value is present and the mapping function is null
+     */
+    public <U> Option<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        if (!present) return Option.None();
+        else return Option.ofNullable(mapper.apply(value));
+    }
+
+    /**
+     * If a value is present, apply the provided {@code OptionDouble}-bearing
+     * mapping function to it, return that result, otherwise return a {@code None}.
+     *
+     * @param mapper a mapping function to apply to the value, if present
+     * @throws NullPointerException if value is present and the mapping function is null
+     *                              or returns a null result
+     */
+    public OptionDouble flatMap(DoubleFunction<OptionDouble> mapper) {
+        if (!present) return EMPTY;
+        OptionDouble result = mapper.apply(value);
+        if (result == null) throw new NullPointerException("mapper returned null");
+        return result;
+    }
+
+    /**
+     * Test whether the option contains a given value.
+     *
+     * @param elem the element to test
+     * @return {@code true} if a value is present and equal to {@code elem}
+     */
+    public boolean contains(double elem) {
+        return present && Double.compare(value, elem) == 0;
+    }
+
+    /**
+     * Returns {@code true} if this option is nonempty and the predicate
+     * {@code p} returns true when applied to this option's value.
+     *
+     * @param p the predicate to test
+     */
+    public boolean exist(DoublePredicate p) {
+        return present && p.test(value);
+    }
+
+    /**
+     * Returns {@code true} if this option is None or the predicate
+     * {@code p} returns {@code true} when applied to this option's value.
+     *
+     * @param p the predicate to test
+     */
+    public boolean forall(DoublePredicate p) {
+        return !present || p.test(value);
+    }
+
+    /**
+     * Return the value if present, otherwise return {@code other}.
+     *
+     * @param other the value to be returned if there is no value present
+     */
+    public double orElse(double other) {
+        return present ? value : other;
+    }
+
+    /**
+     * Return the value if present, otherwise invoke {@code other} and return
+     * the result of that invocation.
+     *
+     * @param other a supplier whose result is returned if no value is present
+     * @throws NullPointerException if value is not present and {@code other} is null
+     */
+    public double orElseGet(DoubleSupplier other) {
+        return present ? value : other.getAsDouble();
+    }
+
+    /**
+     * Return the contained value, if present, otherwise throw an exception
+     * to be created by the provided supplier.
+     *
+     * @param <X>               Type of the exception to be thrown
+     * @param exceptionSupplier The supplier which will return the exception to be thrown
+     * @throws X if there is no value present
+     */
+    public <X extends Throwable> double orElseThrow(Supplier<? extends X> exceptionSupplier) throws X {
+        if (present) return value;
+        else throw exceptionSupplier.get();
+    }
+
+    /**
+     * Converts this value to a boxed {@code Option}.
+     *
+     * @return {@code Some} of the boxed value if present, otherwise {@code None}
+     */
+    public Option<Double> toOption() {
+        if (present) return Option.Some(value);
+        else return Option.None();
+    }
+
+    @Override
+    public String toString() {
+        return present ? "Some{" + value + "}" : "None";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OptionDouble)) return false;
+
+        OptionDouble other = (OptionDouble) o;
+
+        if (present && other.present) return Double.compare(value, other.value) == 0;
+        else return present == other.present;
+    }
+
+    @Override
+    public int hashCode() {
+        return present ? Double.hashCode(value) : 0x598df91c;
+    }
+}
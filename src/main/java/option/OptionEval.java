@@ -0,0 +1,144 @@
+package option;
+
+import utils.function.Function;
+import utils.function.Predicate;
+import utils.function.Supplier;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A lazily evaluated {@link Option} computation that runs in constant stack space.
+ * <p/>
+ * {@code Option.flatMap} runs its function at once, so a recursive chain of
+ * {@code flatMap} calls is as deep on the Java stack as it is long. An
+ * {@code OptionEval} only describes the chain; {@link #run()} then evaluates it in a
+ * loop that keeps the pending steps on an explicit stack, so chains of any depth, and
+ * recursion through {@link #defer(Supplier)}, never grow the Java stack:
+ * <pre>{@code
+ *     static OptionEval<Node> find(Node node, String key) {
+ *         if (node == null) return OptionEval.now(None());
+ *         if (node.key.equals(key)) return OptionEval.now(Some(node));
+ *         return OptionEval.defer(() -> find(node.next, key));
+ *     }
+ * }</pre>
+ * Each step has the semantics of the {@code Option} method with the same name. The
+ * evaluation stops at the first empty result, since no step applies to {@code None}.
+ * <p/>
+ * Instances are immutable; {@link #run()} evaluates the computation again on every call.
+ *
+ * @param <T> the type of the result value
+ * @since 18.10.26
+ */
+public final class OptionEval<T> {
+
+    private static final int NOW = 0;
+    private static final int DEFER = 1;
+    private static final int MAP = 2;
+    private static final int FLAT_MAP = 3;
+    private static final int FILTER = 4;
+
+    private final int kind;
+    /**
+     * The {@code Option} of {@code NOW}, the supplier of {@code DEFER}, the function or
+     * predicate of the other kinds.
+     */
+    private final Object payload;
+    /**
+     * The computation a {@code MAP}, {@code FLAT_MAP} or {@code FILTER} step applies to.
+     */
+    private final OptionEval<?> source;
+
+    private OptionEval(int kind, Object payload, OptionEval<?> source) {
+        this.kind = kind;
+        this.payload = Objects.requireNonNull(payload);
+        this.source = source;
+    }
+
+    /**
+     * Returns a computation that results in {@code option}.
+     */
+    public static <T> OptionEval<T> now(Option<T> option) {
+        return new OptionEval<>(NOW, option, null);
+    }
+
+    /**
+     * Returns a computation that continues with the computation returned by
+     * {@code next}; {@code next} is called only when the result is needed, which is
+     * what makes recursive definitions stack-safe.
+     */
+    public static <T> OptionEval<T> defer(Supplier<? extends OptionEval<T>> next) {
+        return new OptionEval<>(DEFER, next, null);
+    }
+
+    /**
+     * @see Option#map(Function)
+     */
+    public <U> OptionEval<U> map(Function<? super T, ? extends U> mapper) {
+        return new OptionEval<>(MAP, mapper, this);
+    }
+
+    /**
+     * Same as {@link Option#flatMap(Function)}, with {@code mapper} returning a computation.
+     */
+    public <U> OptionEval<U> flatMap(Function<? super T, ? extends OptionEval<U>> mapper) {
+        return new OptionEval<>(FLAT_MAP, mapper, this);
+    }
+
+    /**
+     * @see Option#filter(Predicate)
+     */
+    public OptionEval<T> filter(Predicate<? super T> p) {
+        return new OptionEval<>(FILTER, p, this);
+    }
+
+    /**
+     * Evaluates the computation.
+     *
+     * @return the result of the computation
+     * @throws NullPointerException if a {@code defer} supplier or a {@code flatMap}
+     *                              mapper returns null
+     */
+    @SuppressWarnings("unchecked")
+    public Option<T> run() {
+        OptionEval<?> current = this;
+        OptionEval<?>[] steps = new OptionEval<?>[16];
+        int size = 0;
+        Object value;
+        eval:
+        for (;;) {
+            while (current.kind >= MAP) {
+                if (size == steps.length) steps = Arrays.copyOf(steps, size << 1);
+                steps[size++] = current;
+                current = current.source;
+            }
+            if (current.kind == DEFER) {
+                current = next(((Supplier<OptionEval<?>>) current.payload).get());
+                continue;
+            }
+            Option<Object> option = (Option<Object>) current.payload;
+            if (option.isEmpty()) return Option.None();
+            value = option.get();
+            while (size > 0) {
+                OptionEval<?> step = steps[--size];
+                switch (step.kind) {
+                    case MAP:
+                        value = ((Function<Object, Object>) step.payload).apply(value);
+                        if (value == null) return Option.None();
+                        break;
+                    case FLAT_MAP:
+                        current = next(((Function<Object, OptionEval<?>>) step.payload).apply(value));
+                        continue eval;
+                    default:
+                        if (!((Predicate<Object>) step.payload).test(value)) return Option.None();
+                }
+            }
+            return Option.Some((T) value);
+        }
+    }
+
+    private static OptionEval<?> next(OptionEval<?> next) {
+        if (next == null) throw new NullPointerException("step returned null");
+        return next;
+    }
+}
@@ -0,0 +1,176 @@
+package option;
+
+import utils.function.IntConsumer;
+import utils.function.IntFunction;
+import utils.function.IntPredicate;
+import utils.function.IntUnaryOperator;
+
+/**
+ * A fixed-length array of optional {@code int} values stored in columnar form: the
+ * values are kept unboxed in an {@code int[]} and their presence in a bitmap, so an
+ * element costs 4 bytes and one bit instead of a {@code Some} and an {@code Integer}.
+ * <p/>
+ * {@link #get(int)} returns an {@link OptionInt} view of an element, while the bulk
+ * operations work on the raw values and never create an option per element.
+ * <p/>
+ * Instances are not thread-safe.
+ *
+ * @see OptionArray
+ * @since 18.10.26
+ */
+public final class OptionIntArray extends AbstractOptionArray {
+
+    private final int[] values;
+
+    /**
+     * Creates an array of {@code length} empty elements.
+     */
+    public OptionIntArray(int length) {
+        super(length);
+        this.values = new int[length];
+    }
+
+    /**
+     * Creates an array holding the given options in order.
+     */
+    public static OptionIntArray of(OptionInt... options) {
+        OptionIntArray array = new OptionIntArray(options.length);
+        for (int i = 0; i < options.length; i++) array.set(i, options[i]);
+        return array;
+    }
+
+    /**
+     * Returns element {@code index} as an {@code OptionInt}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public OptionInt get(int index) {
+        checkIndex(index);
+        if (present(index)) return OptionInt.Some(values[index]);
+        else return OptionInt.None();
+    }
+
+    /**
+     * Returns the value of element {@code index} if present, otherwise {@code other}.
+     * Unlike {@link #get(int)} this never allocates.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int orElse(int index, int other) {
+        checkIndex(index);
+        return present(index) ? values[index] : other;
+    }
+
+    /**
+     * Sets element {@code index} to {@code value}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void set(int index, int value) {
+        checkIndex(index);
+        values[index] = value;
+        markPresent(index);
+    }
+
+    /**
+     * Sets element {@code index} to the value of {@code option}, or clears it if
+     * {@code option} is empty.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void set(int index, OptionInt option) {
+        if (option.isPresent()) set(index, option.get());
+        else clear(index);
+    }
+
+    /**
+     * Makes element {@code index} empty.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void clear(int index) {
+        checkIndex(index);
+        values[index] = 0;
+        markEmpty(index);
+    }
+
+    /**
+     * Returns the number of present values that match {@code p}.
+     */
+    public int count(IntPredicate p) {
+        int count = 0;
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                if (p.test(values[(w << 6) + Long.numberOfTrailingZeros(word)])) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Invokes {@code consumer} with every present value in index order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                consumer.accept(values[(w << 6) + Long.numberOfTrailingZeros(word)]);
+            }
+        }
+    }
+
+    /**
+     * Returns a new array of the same length where every present value is replaced by
+     * the result of {@code mapper}.
+     */
+    public OptionIntArray map(IntUnaryOperator mapper) {
+        OptionIntArray result = new OptionIntArray(length);
+        System.arraycopy(presence, 0, result.presence, 0, presence.length);
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                result.values[index] = mapper.applyAsInt(values[index]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new array of the same length where every present value is replaced by
+     * the result of {@code mapper}; a null result makes the element empty.
+     */
+    public <U> OptionArray<U> mapToObj(IntFunction<? extends U> mapper) {
+        OptionArray<U> result = new OptionArray<>(length);
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                U mapped = mapper.apply(values[index]);
+                if (mapped != null) result.set(index, mapped);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new array of the same length that keeps only the present values
+     * matching {@code p}.
+     */
+    public OptionIntArray filter(IntPredicate p) {
+        OptionIntArray result = new OptionIntArray(length);
+        for (int w = 0; w < presence.length; w++) {
+            for (long word = presence[w]; word != 0; word &= word - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                int value = values[index];
+                if (p.test(value)) {
+                    result.values[index] = value;
+                    result.markPresent(index);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    String valueToString(int index) {
+        return String.valueOf(values[index]);
+    }
+}
@@ -0,0 +1,137 @@
+package option;
+
+import utils.function.Function;
+import utils.function.Predicate;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reusable chain of {@code map}, {@code filter}, {@code filterNot} and {@code flatMap}
+ * steps over {@link Option}.
+ * <p/>
+ * The chain is recorded once, usually into a constant, and then applied to many inputs.
+ * Applying it runs all steps in a single pass over the raw value and allocates only the
+ * final {@code Option}, where the equivalent {@code option.map(..).filter(..).flatMap(..)}
+ * creates a new {@code Some} for every step. Each step has the semantics of the
+ * {@code Option} method with the same name.
+ * <pre>{@code
+ *     static final OptionPipeline<String, Integer> PORT = Option.<String>pipeline()
+ *             .map(String::trim)
+ *             .filterNot(String::isEmpty)
+ *             .map(Integer::valueOf)
+ *             .filter(p -> p > 0);
+ *
+ *     Option<Integer> port = PORT.apply(System.getenv("PORT"));
+ * }</pre>
+ * <p/>
+ * Pipelines are immutable: every builder method returns a new pipeline, so a
+ * pipeline can be shared between threads and extended without affecting the original.
+ *
+ * @param <T> the type of the input value
+ * @param <R> the type of the result value
+ * @see Option#pipeline()
+ * @since 18.10.26
+ */
+public final class OptionPipeline<T, R> {
+
+    private static final int MAP = 0;
+    private static final int FILTER = 1;
+    private static final int FILTER_NOT = 2;
+    private static final int FLAT_MAP = 3;
+
+    private static final OptionPipeline<?, ?> IDENTITY = new OptionPipeline<>(new int[0], new Object[0]);
+
+    private final int[] kinds;
+    private final Object[] functions;
+
+    private OptionPipeline(int[] kinds, Object[] functions) {
+        this.kinds = kinds;
+        this.functions = functions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> OptionPipeline<T, T> identity() {
+        return (OptionPipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * @see Option#map(Function)
+     */
+    public <U> OptionPipeline<T, U> map(Function<? super R, ? extends U> mapper) {
+        return append(MAP, mapper);
+    }
+
+    /**
+     * @see Option#filter(Predicate)
+     */
+    public OptionPipeline<T, R> filter(Predicate<? super R> p) {
+        return append(FILTER, p);
+    }
+
+    /**
+     * @see Option#filterNot(Predicate)
+     */
+    public OptionPipeline<T, R> filterNot(Predicate<? super R> p) {
+        return append(FILTER_NOT, p);
+    }
+
+    /**
+     * @see Option#flatMap(Function)
+     */
+    public <U> OptionPipeline<T, U> flatMap(Function<? super R, ? extends Option<U>> mapper) {
+        return append(FLAT_MAP, mapper);
+    }
+
+    /**
+     * Runs the pipeline on a possibly-null value, as if it were applied to
+     * {@code Option.ofNullable(value)}.
+     *
+     * @param value the input value, may be null
+     * @return the result of all steps
+     */
+    @SuppressWarnings("unchecked")
+    public Option<R> apply(T value) {
+        if (value == null) return None.empty();
+        Object current = value;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case MAP:
+                    current = ((Function<Object, Object>) functions[i]).apply(current);
+                    if (current == null) return None.empty();
+                    break;
+                case FILTER:
+                    if (!((Predicate<Object>) functions[i]).test(current)) return None.empty();
+                    break;
+                case FILTER_NOT:
+                    if (((Predicate<Object>) functions[i]).test(current)) return None.empty();
+                    break;
+                default:
+                    Option<Object> next = Objects.requireNonNull(((Function<Object, Option<Object>>) functions[i]).apply(current));
+                    if (next.isEmpty()) return None.empty();
+                    current = next.get();
+            }
+        }
+        return Option.Some((R) current);
+    }
+
+    /**
+     * Runs the pipeline on the value of {@code option}, if present.
+     *
+     * @param option the input option
+     * @return the result of all steps, or {@code None} if {@code option} is empty
+     */
+    public Option<R> apply(Option<? extends T> option) {
+        if (option.isEmpty()) return None.empty();
+        else return apply(option.get());
+    }
+
+    private <U> OptionPipeline<T, U> append(int kind, Object function) {
+        Objects.requireNonNull(function);
+        int[] newKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        Object[] newFunctions = Arrays.copyOf(functions, functions.length + 1);
+        newKinds[kinds.length] = kind;
+        newFunctions[functions.length] = function;
+        return new OptionPipeline<>(newKinds, newFunctions);
+    }
+}
@@ -1,6 +1,10 @@
 package option;
 
+import utils.stream.SingletonSpliterator;
+
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 /**
  * Class Some represents existing values of type T.
@@ -12,25 +16,18 @@ import java.util.Iterator;
 
 final class Some<T> extends Option<T> {
 
-    private final T value;
-
     Some(T value) {
-        this.value = value;
-    }
-
-    @Override
-    public boolean isPresent() {
-        return true;
+        super(value);
     }
 
     @Override
-    public T get() {
-        return value;
+    public Iterator<T> iterator() {
+        return new OptionIter<T>(value);
     }
 
     @Override
-    public Iterator<T> iterator() {
-        return new OptionIter<T>(value);
+    public Spliterator<T> spliterator() {
+        return new SingletonSpliterator<>(value);
     }
 
     @Override
@@ -75,7 +72,7 @@ final class Some<T> extends Option<T> {
                 hasNext = false;
                 return this.elem;
             }
-            throw new UnsupportedOperationException();
+            throw new NoSuchElementException();
         }
 
         @Override
@@ -0,0 +1,65 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.SupplierEx;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static try_.Try.Failure;
+
+/**
+ * One attempt of {@link Try#retryAsync}; a failed attempt schedules the same task again
+ * after the backoff delay instead of sleeping.
+ *
+ * @since 18.10.26
+ */
+final class AsyncRetry<T> implements Runnable {
+
+    private final SupplierEx<? extends T> block;
+    private final RetryPolicy policy;
+    private final ScheduledExecutorService scheduler;
+    private final TryFuture<T> promise;
+    /**
+     * Only touched by the running attempt; the scheduler orders consecutive attempts.
+     */
+    private int attempt;
+
+    AsyncRetry(SupplierEx<? extends T> block, RetryPolicy policy, ScheduledExecutorService scheduler, TryFuture<T> promise) {
+        this.block = block;
+        this.policy = policy;
+        this.scheduler = scheduler;
+        this.promise = promise;
+    }
+
+    @Override
+    public void run() {
+        attempt++;
+        Try<T> result;
+        try {
+            result = Try.asTry(block);
+        } catch (Throwable t) {
+            promise.complete(Failure(t));
+            throw t;
+        }
+        long delayNanos;
+        try {
+            if (result.isSuccess() || !policy.shouldRetry(Try.exceptionOf(result), attempt)) {
+                promise.complete(result);
+                return;
+            }
+            delayNanos = policy.delayNanos(attempt);
+        } catch (Throwable t) {
+            // the scheduler would swallow it and leave the promise pending forever
+            promise.complete(Failure(t));
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return;
+        }
+        try {
+            scheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            promise.complete(result);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * A lock-free cell holding a {@link Try}, for shared state that is "the last result of
+ * a computation".
+ * <p/>
+ * Until a result is set, and after {@link #take()}, the cell is empty: it holds a
+ * shared {@code Failure} of an {@link EmptyException}, so {@link #get()} always
+ * returns a {@code Try} and never allocates. Reads are a volatile load and updates a
+ * compare-and-set loop on the one field, so concurrent threads never block each other.
+ * Comparisons are by identity, as for {@code AtomicReference}. An update whose function
+ * returns its argument, such as {@code t -> t.recover(f)} on a {@code Success}, is a
+ * no-op: it neither writes nor allocates, and {@link #setIfEmpty(Try)} and
+ * {@link #take()} do not write either when there is nothing to do.
+ * <pre>{@code
+ *     AtomicTry<Config> config = new AtomicTry<>();
+ *     config.set(Try.asTry(Config::load));
+ *     config.updateAndGet(last -> last.isFailure() ? Try.asTry(Config::load) : last);
+ * }</pre>
+ *
+ * @param <T> the type of the value
+ * @since 18.10.26
+ */
+public final class AtomicTry<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicTry, Try> RESULT =
+            AtomicReferenceFieldUpdater.newUpdater(AtomicTry.class, Try.class, "result");
+
+    private volatile Try<T> result;
+
+    /**
+     * Creates an empty cell.
+     */
+    public AtomicTry() {
+        this.result = Failures.noResult();
+    }
+
+    public AtomicTry(Try<T> initial) {
+        this.result = Objects.requireNonNull(initial);
+    }
+
+    /**
+     * @return the current result, or the shared failure of an empty cell
+     */
+    public Try<T> get() {
+        return result;
+    }
+
+    /**
+     * @return {@code true} if no result is set
+     */
+    public boolean isEmpty() {
+        return result == Failures.noResult();
+    }
+
+    public void set(Try<T> result) {
+        this.result = Objects.requireNonNull(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Try<T> getAndSet(Try<T> result) {
+        return (Try<T>) RESULT.getAndSet(this, Objects.requireNonNull(result));
+    }
+
+    /**
+     * Sets the result to {@code update} if it is the very instance {@code expect}.
+     *
+     * @return {@code true} if the result was set
+     */
+    public boolean compareAndSet(Try<T> expect, Try<T> update) {
+        return RESULT.compareAndSet(this, expect, Objects.requireNonNull(update));
+    }
+
+    /**
+     * Replaces the result with the result of {@code f} applied to it, retrying on
+     * contention, so {@code f} may be applied several times and should not have side
+     * effects. On an empty cell {@code f} gets the shared failure. An exception thrown
+     * by {@code f} is rethrown and leaves the result unchanged.
+     *
+     * @return the previous result
+     * @throws NullPointerException if {@code f} returns null
+     */
+    public Try<T> getAndUpdate(FunctionEx<? super Try<T>, ? extends Try<T>> f) {
+        for (;;) {
+            Try<T> current = result;
+            Try<T> next = apply(f, current);
+            if (next == current || RESULT.compareAndSet(this, current, next)) return current;
+        }
+    }
+
+    /**
+     * Same as {@link #getAndUpdate(FunctionEx)}, returning the new result.
+     */
+    public Try<T> updateAndGet(FunctionEx<? super Try<T>, ? extends Try<T>> f) {
+        for (;;) {
+            Try<T> current = result;
+            Try<T> next = apply(f, current);
+            if (next == current || RESULT.compareAndSet(this, current, next)) return next;
+        }
+    }
+
+    /**
+     * Sets the result to {@code result} if the cell is empty.
+     *
+     * @return {@code true} if the result was set
+     */
+    public boolean setIfEmpty(Try<T> result) {
+        Objects.requireNonNull(result);
+        Try<T> empty = Failures.noResult();
+        return this.result == empty && RESULT.compareAndSet(this, empty, result);
+    }
+
+    /**
+     * Empties the cell.
+     *
+     * @return the previous result, or the shared failure if the cell was empty
+     */
+    public Try<T> take() {
+        Try<T> current = result;
+        if (current == Failures.noResult()) return current;
+        return getAndSet(Failures.<T>noResult());
+    }
+
+    private static <T> Try<T> apply(FunctionEx<? super Try<T>, ? extends Try<T>> f, Try<T> current) {
+        Try<T> next = null;
+        try {
+            next = f.apply(current);
+        } catch (Exception e) {
+            Errors.throwAsUnchecked(e);
+        }
+        if (next == null) throw new NullPointerException("update function returned null");
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return isEmpty() ? "AtomicTry{empty}" : "AtomicTry{" + result + '}';
+    }
+
+    /**
+     * Exception of the failure held by an empty cell. Its single instance has
+     * suppression and the stack trace disabled, so it carries no state of any caller.
+     */
+    public static final class EmptyException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        EmptyException() {
+            super("No result", null, false, false);
+        }
+    }
+}
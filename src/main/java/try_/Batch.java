@@ -0,0 +1,90 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.SupplierEx;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Implementation of {@link Try#all} and {@link Try#allSettled}.
+ *
+ * @since 18.10.26
+ */
+final class Batch {
+
+    private Batch() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Try<List<T>> all(Collection<? extends SupplierEx<? extends T>> blocks, Executor executor) {
+        CompletionService<Try<T>> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Try<T>>> futures = new ArrayList<>(blocks.size());
+        try {
+            for (SupplierEx<? extends T> block : blocks) futures.add(completion.submit(task(block)));
+            for (int i = 0; i < futures.size(); i++) {
+                Try<T> result = resultOf(completion.take());
+                if (result.isFailure()) return (Try<List<T>>) (Try<?>) result;
+            }
+            List<T> values = new ArrayList<>(futures.size());
+            for (Future<Try<T>> future : futures) values.add(resultOf(future).get());
+            return Try.Success(values);
+        } catch (RejectedExecutionException e) {
+            return Try.Failure(e);
+        } catch (InterruptedException e) {
+            Errors.throwAsUnchecked(e);
+            return null;
+        } finally {
+            for (Future<Try<T>> future : futures) future.cancel(true);
+        }
+    }
+
+    static <T> List<Try<T>> allSettled(Collection<? extends SupplierEx<? extends T>> blocks, Executor executor) {
+        List<Future<Try<T>>> futures = new ArrayList<>(blocks.size());
+        boolean settled = false;
+        try {
+            for (SupplierEx<? extends T> block : blocks) {
+                FutureTask<Try<T>> future = new FutureTask<>(task(block));
+                try {
+                    executor.execute(future);
+                } catch (RejectedExecutionException e) {
+                    future = new FutureTask<>(() -> Try.Failure(e));
+                    future.run();
+                }
+                futures.add(future);
+            }
+            List<Try<T>> results = new ArrayList<>(futures.size());
+            for (Future<Try<T>> future : futures) results.add(resultOf(future));
+            settled = true;
+            return results;
+        } catch (InterruptedException e) {
+            Errors.throwAsUnchecked(e);
+            return null;
+        } finally {
+            if (!settled) for (Future<Try<T>> future : futures) future.cancel(true);
+        }
+    }
+
+    private static <T> Callable<Try<T>> task(final SupplierEx<? extends T> block) {
+        return () -> Try.asTry(block);
+    }
+
+    private static <T> Try<T> resultOf(Future<Try<T>> done) throws InterruptedException {
+        try {
+            return done.get();
+        } catch (ExecutionException e) {
+            // only fatal errors escape Try.asTry
+            Errors.throwAsUnchecked(e.getCause());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package try_;
+
+import utils.function.LongSupplier;
+import utils.function.Predicate;
+import utils.function.exceptional.SupplierEx;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs blocks as {@link Try#asTry(SupplierEx)} does while keeping track of their recent
+ * failures, and stops running them while a dependency is failing.
+ * <ul>
+ * <li>{@link State#CLOSED}: blocks run and their outcomes are counted over a sliding
+ * window. Once the window holds at least {@code minimumCalls} outcomes and the share of
+ * failures reaches {@code failureRateThreshold}, the breaker opens.</li>
+ * <li>{@link State#OPEN}: blocks do not run; every call returns at once a shared,
+ * preallocated {@code Failure} of a stackless {@link CircuitOpenException}. After
+ * {@code openDuration} the breaker turns half-open.</li>
+ * <li>{@link State#HALF_OPEN}: up to {@code halfOpenProbes} calls run as probes, other
+ * calls are rejected. If all probes succeed the breaker closes with an empty window,
+ * the first failed probe opens it again. A probe still running {@code halfOpenTimeout}
+ * after the round began, e.g. because it hangs, opens it again too; a round whose
+ * probes all completed stays half-open however long it waits for the next call.</li>
+ * </ul>
+ * Each open period and each half-open round is its own immutable phase swapped in by a
+ * compare-and-set, so a probe only counts towards the round it started in. The window
+ * is a ring of time slices holding {@code LongAdder} counters, so recording an outcome
+ * does not contend on a single counter; a slice of an older lap is replaced by a fresh
+ * one rather than cleared in place, so no outcome of the new slice is lost.
+ * <pre>{@code
+ *     CircuitBreaker breaker = CircuitBreaker.newBuilder()
+ *             .failureRateThreshold(0.5)
+ *             .window(10, TimeUnit.SECONDS)
+ *             .openDuration(5, TimeUnit.SECONDS)
+ *             .build();
+ *     Try<Quote> quote = breaker.call(() -> pricing.quote(item));
+ * }</pre>
+ * Instances are thread-safe.
+ *
+ * @since 18.10.26
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final AtomicReferenceFieldUpdater<CircuitBreaker, Phase> PHASE =
+            AtomicReferenceFieldUpdater.newUpdater(CircuitBreaker.class, Phase.class, "phase");
+    private static final Phase CLOSED = new Phase(State.CLOSED, 0);
+
+    private final double failureRateThreshold;
+    private final long minimumCalls;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final long halfOpenNanos;
+    private final Predicate<? super Throwable> recordFailure;
+    private final LongSupplier ticker;
+    private final long bucketNanos;
+    private final AtomicReferenceArray<Slice> slices;
+
+    private volatile Phase phase = CLOSED;
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.openNanos = builder.openNanos;
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.halfOpenNanos = builder.halfOpenNanos;
+        this.recordFailure = builder.recordFailure;
+        this.ticker = builder.ticker;
+        this.bucketNanos = Math.max(1, builder.windowNanos / builder.buckets);
+        this.slices = new AtomicReferenceArray<>(builder.buckets);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs {@code block} if the breaker permits it and records its outcome; otherwise
+     * returns the shared circuit-open {@code Failure} without running it. Fatal errors
+     * thrown by {@code block} are rethrown and count as failures.
+     *
+     * @param block the computation to protect
+     * @return the result of {@code block}, or a {@code Failure} of
+     * {@link CircuitOpenException} if the breaker is open
+     */
+    public <T> Try<T> call(SupplierEx<? extends T> block) {
+        Phase current = phase();
+        if (current.state == State.OPEN) return rejected();
+        if (current.state == State.HALF_OPEN) return probe(current, block);
+        Try<T> result = null;
+        try {
+            result = Try.asTry(block);
+        } finally {
+            onClosedOutcome(result == null || isRecordedFailure(result));
+        }
+        return result;
+    }
+
+    /**
+     * @return the current state; an open breaker whose open duration has passed is
+     * reported, and becomes, half-open, and a half-open round with a probe running past
+     * the half-open timeout open
+     */
+    public State state() {
+        return phase().state;
+    }
+
+    private Phase phase() {
+        Phase current = phase;
+        if (current.state == State.CLOSED) return current;
+        long now = ticker.getAsLong();
+        long elapsed = now - current.since;
+        if (current.state == State.OPEN && elapsed >= openNanos) {
+            PHASE.compareAndSet(this, current, new Phase(State.HALF_OPEN, now));
+            return phase;
+        }
+        if (current.state == State.HALF_OPEN && elapsed >= halfOpenNanos && current.hasRunningProbe(halfOpenProbes)) {
+            PHASE.compareAndSet(this, current, new Phase(State.OPEN, now));
+            return phase;
+        }
+        return current;
+    }
+
+    /**
+     * @return the number of failures recorded in the current window
+     */
+    public long failures() {
+        long now = sliceIndex();
+        long failures = 0;
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (live(slice, now)) failures += slice.failures.sum();
+        }
+        return failures;
+    }
+
+    /**
+     * @return the number of outcomes recorded in the current window
+     */
+    public long calls() {
+        long now = sliceIndex();
+        long calls = 0;
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (live(slice, now)) calls += slice.successes.sum() + slice.failures.sum();
+        }
+        return calls;
+    }
+
+    /**
+     * Closes the breaker and forgets the recorded outcomes.
+     */
+    public void reset() {
+        clearWindow();
+        phase = CLOSED;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{state=" + state() + ", failures=" + failures() + ", calls=" + calls() + '}';
+    }
+
+    private <T> Try<T> probe(Phase round, SupplierEx<? extends T> block) {
+        if (round.started.incrementAndGet() > halfOpenProbes) return rejected();
+        Try<T> result = null;
+        try {
+            result = Try.asTry(block);
+        } finally {
+            // outcomes only count towards their own round, a late probe of an older one is ignored
+            if (result == null || isRecordedFailure(result)) open(round);
+            else if (round.succeeded.incrementAndGet() == halfOpenProbes && PHASE.compareAndSet(this, round, CLOSED)) {
+                clearWindow();
+            }
+        }
+        return result;
+    }
+
+    private void onClosedOutcome(boolean failed) {
+        Slice slice = slice(sliceIndex());
+        if (slice == null) return;
+        if (!failed) {
+            slice.successes.increment();
+            return;
+        }
+        slice.failures.increment();
+        long calls = calls();
+        if (calls >= minimumCalls && failures() >= failureRateThreshold * calls) open(CLOSED);
+    }
+
+    private void open(Phase from) {
+        if (phase == from) PHASE.compareAndSet(this, from, new Phase(State.OPEN, ticker.getAsLong()));
+    }
+
+    private boolean isRecordedFailure(Try<?> result) {
+        return result.isFailure() && recordFailure.test(Try.exceptionOf(result));
+    }
+
+    /**
+     * Returns the slice of {@code index}, replacing the slice of an older lap in its
+     * place of the ring, or {@code null} if that place already holds a newer lap, which
+     * makes the outcome older than the window.
+     */
+    private Slice slice(long index) {
+        int i = (int) Math.floorMod(index, (long) slices.length());
+        Slice fresh = null;
+        for (;;) {
+            Slice current = slices.get(i);
+            if (current != null && current.index == index) return current;
+            if (current != null && current.index > index) return null;
+            if (fresh == null) fresh = new Slice(index);
+            if (slices.compareAndSet(i, current, fresh)) return fresh;
+        }
+    }
+
+    private boolean live(Slice slice, long now) {
+        return slice != null && now - slice.index < slices.length();
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < slices.length(); i++) slices.set(i, null);
+    }
+
+    private long sliceIndex() {
+        // nanoTime may be negative
+        return Math.floorDiv(ticker.getAsLong(), bucketNanos);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Try<T> rejected() {
+        return (Try<T>) Failures.circuitOpen();
+    }
+
+    /**
+     * Failure of a call rejected by an open breaker. The shared instance has suppression
+     * and the stack trace disabled, so it carries no state of any caller.
+     */
+    public static final class CircuitOpenException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        CircuitOpenException(boolean writableStackTrace) {
+            super("Circuit breaker is open", null, writableStackTrace, writableStackTrace);
+        }
+    }
+
+    /**
+     * A state of the breaker since the ticker time {@code since}; a half-open phase is
+     * one round of probes and counts them.
+     */
+    private static final class Phase {
+
+        final State state;
+        final long since;
+        final AtomicInteger started;
+        final AtomicInteger succeeded;
+
+        Phase(State state, long since) {
+            this.state = state;
+            this.since = since;
+            this.started = state == State.HALF_OPEN ? new AtomicInteger() : null;
+            this.succeeded = state == State.HALF_OPEN ? new AtomicInteger() : null;
+        }
+
+        /**
+         * A failed probe ends the round, so a started probe that did not succeed is
+         * still running; calls beyond {@code probes} were rejected, not started.
+         */
+        boolean hasRunningProbe(int probes) {
+            return Math.min(started.get(), probes) > succeeded.get();
+        }
+    }
+
+    /**
+     * Outcomes of the time slice {@code index} of the window.
+     */
+    private static final class Slice {
+
+        final long index;
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        Slice(long index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * Builder of {@link CircuitBreaker}. By default the breaker opens when at least half
+     * of at least 20 calls within 10 seconds failed, stays open for 5 seconds and then
+     * lets 3 probes through, which have 10 seconds to complete; every non-fatal failure
+     * is recorded.
+     */
+    public static final class Builder {
+
+        private double failureRateThreshold = 0.5;
+        private long minimumCalls = 20;
+        private long windowNanos = TimeUnit.SECONDS.toNanos(10);
+        private int buckets = 10;
+        private long openNanos = TimeUnit.SECONDS.toNanos(5);
+        private int halfOpenProbes = 3;
+        private long halfOpenNanos = TimeUnit.SECONDS.toNanos(10);
+        private Predicate<? super Throwable> recordFailure = t -> true;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Share of failed calls in the window, between 0 and 1, at which the breaker opens.
+         */
+        public Builder failureRateThreshold(double threshold) {
+            if (!(threshold > 0 && threshold <= 1)) throw new IllegalArgumentException("threshold should be within (0, 1]: " + threshold);
+            this.failureRateThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Number of calls the window has to hold before the failure rate is considered.
+         */
+        public Builder minimumCalls(long calls) {
+            if (calls < 1) throw new IllegalArgumentException("calls should be positive: " + calls);
+            this.minimumCalls = calls;
+            return this;
+        }
+
+        /**
+         * Length of the sliding window.
+         */
+        public Builder window(long duration, TimeUnit unit) {
+            if (duration <= 0) throw new IllegalArgumentException("duration should be positive: " + duration);
+            this.windowNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Number of time buckets the window slides by; more buckets expire old outcomes
+         * more smoothly.
+         */
+        public Builder buckets(int buckets) {
+            if (buckets < 1) throw new IllegalArgumentException("buckets should be positive: " + buckets);
+            this.buckets = buckets;
+            return this;
+        }
+
+        /**
+         * How long the breaker rejects calls before letting probes through.
+         */
+        public Builder openDuration(long duration, TimeUnit unit) {
+            if (duration < 0) throw new IllegalArgumentException("duration should not be negative: " + duration);
+            this.openNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Number of successful probes needed to close a half-open breaker.
+         */
+        public Builder halfOpenProbes(int probes) {
+            if (probes < 1) throw new IllegalArgumentException("probes should be positive: " + probes);
+            this.halfOpenProbes = probes;
+            return this;
+        }
+
+        /**
+         * How long after the start of a round of probes a probe may still be running
+         * before the breaker opens again, so that a hanging probe does not keep it
+         * half-open.
+         */
+        public Builder halfOpenTimeout(long duration, TimeUnit unit) {
+            if (duration <= 0) throw new IllegalArgumentException("duration should be positive: " + duration);
+            this.halfOpenNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Only failures matching {@code p} are counted; other failures count as successes,
+         * e.g. validation errors that say nothing about the health of a dependency.
+         */
+        public Builder recordFailure(Predicate<? super Throwable> p) {
+            this.recordFailure = Objects.requireNonNull(p);
+            return this;
+        }
+
+        /**
+         * Source of nanosecond time, for tests.
+         */
+        Builder ticker(LongSupplier ticker) {
+            this.ticker = Objects.requireNonNull(ticker);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
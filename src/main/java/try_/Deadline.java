@@ -0,0 +1,170 @@
+package try_;
+
+import option.Option;
+import utils.control.Errors;
+import utils.function.exceptional.SupplierEx;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A point in time by which a computation has to complete, measured with
+ * {@link System#nanoTime()}.
+ * <p/>
+ * Blocks run by {@link Try#asTry(SupplierEx, Deadline, Executor)} see the deadline they
+ * run under as {@link #current()}, and a nested bounded {@code asTry} never waits past
+ * the deadline of its caller: the effective deadline is the earlier of the two. So a
+ * per-request budget set once at the entry point bounds every call made on its behalf.
+ * <pre>{@code
+ *     Try<Page> page = Try.asTry(() -> render(request), Duration.ofMillis(200), pool);
+ *
+ *     Page render(Request request) {
+ *         // gets at most what is left of the 200 ms, even though it asks for a second
+ *         Try<Ads> ads = Try.asTry(() -> adService.fetch(request), Duration.ofSeconds(1), pool);
+ *         ...
+ *     }
+ * }</pre>
+ * Instances are immutable.
+ *
+ * @since 18.10.26
+ */
+public final class Deadline implements Comparable<Deadline> {
+
+    /**
+     * Longest supported budget, keeps {@code nanoTime} arithmetic clear of overflow.
+     */
+    private static final long MAX_NANOS = Long.MAX_VALUE >> 1;
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Returns the deadline {@code timeout} from now.
+     *
+     * @throws IllegalArgumentException if {@code timeout} is negative
+     */
+    public static Deadline after(Duration timeout) {
+        if (timeout.isNegative()) throw new IllegalArgumentException("timeout should not be negative: " + timeout);
+        long nanos;
+        try {
+            nanos = Math.min(timeout.toNanos(), MAX_NANOS);
+        } catch (ArithmeticException e) {
+            nanos = MAX_NANOS;
+        }
+        return new Deadline(System.nanoTime() + nanos);
+    }
+
+    /**
+     * Returns the deadline {@code timeout} units from now.
+     *
+     * @throws IllegalArgumentException if {@code timeout} is negative
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        if (timeout < 0) throw new IllegalArgumentException("timeout should not be negative: " + timeout);
+        return new Deadline(System.nanoTime() + Math.min(unit.toNanos(timeout), MAX_NANOS));
+    }
+
+    /**
+     * Returns the deadline the current thread runs under, if it runs a block of
+     * {@link Try#asTry(SupplierEx, Deadline, Executor)}.
+     */
+    public static Option<Deadline> current() {
+        return Option.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * @return the time left until this deadline in {@code unit}, negative once it has passed
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(remainingNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * @return the earlier of this deadline and {@code other}
+     */
+    public Deadline min(Deadline other) {
+        return compareTo(other) <= 0 ? this : other;
+    }
+
+    @Override
+    public int compareTo(Deadline other) {
+        long diff = deadlineNanos - other.deadlineNanos;
+        return diff < 0 ? -1 : diff > 0 ? 1 : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Deadline && deadlineNanos == ((Deadline) o).deadlineNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remainingNanos() + "ns}";
+    }
+
+    private long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Implementation of {@link Try#asTry(SupplierEx, Deadline, Executor)}.
+     */
+    static <T> Try<T> call(final SupplierEx<? extends T> block, Deadline deadline, Executor executor) {
+        Deadline outer = CURRENT.get();
+        final Deadline effective = outer == null ? deadline : deadline.min(outer);
+        if (effective.isExpired()) return Try.Failure(Failures.deadlineExceeded());
+        FutureTask<Try<T>> task = new FutureTask<>(() -> effective.scope(block));
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            return Try.Failure(e);
+        }
+        try {
+            return task.get(effective.remainingNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return Try.Failure(Failures.deadlineExceeded());
+        } catch (ExecutionException e) {
+            // only fatal errors escape Try.asTry
+            Errors.throwAsUnchecked(e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Errors.throwAsUnchecked(e);
+            return null;
+        }
+    }
+
+    /**
+     * Runs {@code block} with this deadline as the current one of the calling thread.
+     */
+    private <T> Try<T> scope(SupplierEx<? extends T> block) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return Try.asTry(block);
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+}
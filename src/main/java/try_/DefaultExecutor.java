@@ -0,0 +1,50 @@
+package try_;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor of {@link Try#all(java.util.Collection)} and
+ * {@link Try#allSettled(java.util.Collection)} when none is given: one virtual thread per
+ * task on runtimes that have them, looked up reflectively since the library targets
+ * Java 8, otherwise an unbounded cached pool of daemon threads, as the blocks are
+ * expected to block on I/O rather than to compute.
+ *
+ * @since 18.10.26
+ */
+final class DefaultExecutor {
+
+    static final ExecutorService INSTANCE = create();
+
+    private DefaultExecutor() {
+    }
+
+    private static ExecutorService create() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8 to 18, or virtual threads still in preview
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                    new DaemonThreadFactory());
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "try-all-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
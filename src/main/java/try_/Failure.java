@@ -1,10 +1,9 @@
 package try_;
 
-import utils.control.Errors;
-import utils.function.exceptional.ConsumerEx;
-import utils.function.exceptional.FunctionEx;
-import utils.function.exceptional.PredicateEx;
-import utils.function.exceptional.SupplierEx;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * User: Dmitrii Fateev
@@ -13,79 +12,24 @@ import utils.function.exceptional.SupplierEx;
  */
 final class Failure<T> extends Try<T> {
 
-    private final Throwable exception;
-
     protected Failure(Throwable exception) {
-        this.exception = exception;
-    }
-
-    @Override
-    public boolean isFailure() {
-        return true;
-    }
-
-    @Override
-    public boolean isSuccess() {
-        return false;
-    }
-
-    @Override
-    public T get(){
-        throw (RuntimeException)exception;
-    }
-
-    @Override
-    public Try<Throwable> failed() {
-        return Success(exception);
-    }
-
-    @Override
-    public Try<T> filter(PredicateEx<? super T> p) {
-        return this;
-    }
-
-    @Override
-    @SuppressWarnings("unchecked")
-    public <U> Try<U> flatMap(FunctionEx<? super T, ? extends Try<U>> f) {
-        return (Try<U>) this;
-    }
-
-    @Override
-    public void foreach(ConsumerEx<? super T> f) {
-
-    }
-
-    @Override
-    @SuppressWarnings("unchecked")
-    public <U> Try<U> map(FunctionEx<? super T, ? extends U> f) {
-        return (Try<U>) this;
+        super(exception);
     }
 
     @Override
-    public Try<T> recover(final FunctionEx<Throwable,? extends T> rescueException) {
-        return Try.asTry(new SupplierEx<T>() {
-            @Override
-            public T get() throws Exception {
-                return rescueException.apply(exception);
-            }
-        });
+    public Iterator<T> iterator() {
+        return Collections.emptyIterator();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public Try<T> recoverWith(FunctionEx<Throwable, ? extends Try<T>> rescueException){
-        try {
-            return rescueException.apply(exception);
-        } catch (Throwable t) {
-            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
-            return Failure(t);
-        }
+    public Spliterator<T> spliterator() {
+        return Spliterators.emptySpliterator();
     }
 
     @Override
     public String toString() {
         return "Failure{" +
-                exception.toString() +
+                exception().toString() +
                 '}';
     }
 
@@ -96,13 +40,13 @@ final class Failure<T> extends Try<T> {
 
         Failure failure = (Failure) o;
 
-        return exception.getClass().equals(failure.exception.getClass());
+        return exception().getClass().equals(failure.exception().getClass());
 
     }
 
     @Override
     public int hashCode() {
-        return exception.hashCode();
+        return exception().hashCode();
     }
 
 }
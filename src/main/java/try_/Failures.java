@@ -0,0 +1,161 @@
+package try_;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Factory of the failures that the library creates by itself (as opposed to
+ * exceptions thrown by user code).
+ * <p/>
+ * By default these failures are lightweight: they skip the stack trace fill and
+ * build their message only when it is asked for. Constant ones are shared
+ * preallocated instances when their exception is a library type with suppression
+ * disabled; those of standard exception types, whose suppressed exceptions cannot be
+ * disabled, are created per call. Full stack traces can be switched on for debugging with
+ * {@link Try#setFullStackTraces(boolean)} or the {@code try.fullStackTraces}
+ * system property.
+ *
+ * @since 18.10.26
+ */
+final class Failures {
+
+    private static volatile boolean fullStackTraces = Boolean.getBoolean("try.fullStackTraces");
+
+    private static final Try<Object> CIRCUIT_OPEN = new Failure<>(new CircuitBreaker.CircuitOpenException(false));
+
+    private static final Try<Object> NO_RESULT = new Failure<>(new AtomicTry.EmptyException());
+
+    private Failures() {
+    }
+
+    static boolean isFullStackTraces() {
+        return fullStackTraces;
+    }
+
+    static void setFullStackTraces(boolean enabled) {
+        fullStackTraces = enabled;
+    }
+
+    /**
+     * Failure of {@link Try#filter} when the predicate does not hold for {@code value}.
+     */
+    static Throwable predicateDoesNotHold(Object value) {
+        if (fullStackTraces) return new NoSuchElementException("Predicate does not hold for " + value);
+        else return new PredicateDoesNotHoldException(value);
+    }
+
+    /**
+     * Result of {@link Try#failed()} on a {@code Success}.
+     */
+    static Try<Throwable> successFailed() {
+        if (fullStackTraces) return new Failure<>(new UnsupportedOperationException("Success.failed"));
+        else return new Failure<>(new StacklessUnsupportedOperationException("Success.failed"));
+    }
+
+    /**
+     * Failure of a block that did not complete before its {@link Deadline}.
+     */
+    static Throwable deadlineExceeded() {
+        if (fullStackTraces) return new TimeoutException("Deadline exceeded");
+        else return new StacklessTimeoutException("Deadline exceeded");
+    }
+
+    /**
+     * Result of a call rejected by an open {@link CircuitBreaker}.
+     */
+    static Try<Object> circuitOpen() {
+        if (fullStackTraces) return new Failure<>(new CircuitBreaker.CircuitOpenException(true));
+        else return CIRCUIT_OPEN;
+    }
+
+    /**
+     * Content of an empty {@link AtomicTry}. Always the same instance, whatever the
+     * stack trace setting, since the cell recognizes it by identity.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Try<T> noResult() {
+        return (Try<T>) NO_RESULT;
+    }
+
+    /**
+     * Failure of a race in which every attempt failed; {@code causes} are attached as
+     * suppressed exceptions in completion order.
+     */
+    static Throwable allAttemptsFailed(List<Throwable> causes) {
+        Throwable failure = new AllAttemptsFailedException(causes.size(), fullStackTraces);
+        for (Throwable cause : causes) failure.addSuppressed(cause);
+        return failure;
+    }
+
+    /**
+     * Stackless {@code NoSuchElementException} that renders its message on demand.
+     */
+    private static final class PredicateDoesNotHoldException extends NoSuchElementException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object value;
+
+        private PredicateDoesNotHoldException(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getMessage() {
+            return "Predicate does not hold for " + value;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless {@code UnsupportedOperationException}.
+     */
+    private static final class StacklessUnsupportedOperationException extends UnsupportedOperationException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StacklessUnsupportedOperationException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Stackless {@code TimeoutException}.
+     */
+    private static final class StacklessTimeoutException extends TimeoutException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StacklessTimeoutException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Aggregate of the failures of all attempts; suppression stays enabled to carry them.
+     * Unchecked, so that {@code get()} of the failure throws it as is.
+     */
+    private static final class AllAttemptsFailedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private AllAttemptsFailedException(int attempts, boolean writableStackTrace) {
+            super("All " + attempts + " attempts failed", null, true, writableStackTrace);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package try_;
+
+/**
+ * Holder of the {@link TryMetrics} listener installed with {@link Try#setMetrics(TryMetrics)}.
+ * <p/>
+ * Instrumented call sites read {@link #metrics} once, and only when it is not null take
+ * the start time and report through {@link #record}.
+ *
+ * @since 18.10.26
+ */
+final class Instrumentation {
+
+    static volatile TryMetrics metrics;
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Reports {@code result} of a block of {@code operation} started at {@code start}.
+     */
+    static <T> Try<T> record(TryMetrics metrics, TryMetrics.Operation operation, long start, Try<T> result) {
+        long nanos = System.nanoTime() - start;
+        // flatMap and recoverWith pass on whatever their function returned
+        if (result == null) return null;
+        if (result.isSuccess()) metrics.onSuccess(operation, nanos);
+        else metrics.onFailure(operation, Try.exceptionOf(result), nanos);
+        return result;
+    }
+
+    /**
+     * Reports a block of {@code operation} started at {@code start} that failed with
+     * {@code failure}, or succeeded if it is {@code null}; for the primitive variants of
+     * {@code Try}.
+     */
+    static void record(TryMetrics metrics, TryMetrics.Operation operation, long start, Throwable failure) {
+        long nanos = System.nanoTime() - start;
+        if (failure == null) metrics.onSuccess(operation, nanos);
+        else metrics.onFailure(operation, failure, nanos);
+    }
+}
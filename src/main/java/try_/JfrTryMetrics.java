@@ -0,0 +1,84 @@
+package try_;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TryMetrics} that emits a Java Flight Recorder event for every failed block and
+ * for every block that ran at least a given threshold, so they show up in a recording
+ * next to GC, I/O and lock events. Other blocks only cost a comparison.
+ * <p/>
+ * The event is named {@code try_.Block} and is recorded when JFR is running with it
+ * enabled, which is the default for custom events. This class needs the
+ * {@code jdk.jfr} API (JDK 8u262 or later, JDK 11 or later) and is only loaded when
+ * it is used:
+ * <pre>{@code
+ *     Try.setMetrics(new TryStats().andThen(new JfrTryMetrics(50, TimeUnit.MILLISECONDS)));
+ * }</pre>
+ *
+ * @since 18.10.26
+ */
+public final class JfrTryMetrics implements TryMetrics {
+
+    private final long thresholdNanos;
+
+    /**
+     * @param slowThreshold running time from which a successful block is recorded
+     */
+    public JfrTryMetrics(long slowThreshold, TimeUnit unit) {
+        if (slowThreshold < 0) throw new IllegalArgumentException("slowThreshold should not be negative: " + slowThreshold);
+        this.thresholdNanos = unit.toNanos(slowThreshold);
+    }
+
+    @Override
+    public void onSuccess(Operation operation, long nanos) {
+        if (nanos >= thresholdNanos) commit(operation, null, nanos);
+    }
+
+    @Override
+    public void onFailure(Operation operation, Throwable failure, long nanos) {
+        commit(operation, failure, nanos);
+    }
+
+    private static void commit(Operation operation, Throwable failure, long nanos) {
+        BlockEvent event = new BlockEvent();
+        if (!event.isEnabled()) return;
+        event.operation = operation.name();
+        event.elapsed = nanos;
+        event.success = failure == null;
+        if (failure != null) {
+            event.exceptionClass = failure.getClass().getName();
+            event.message = failure.getMessage();
+        }
+        event.commit();
+    }
+
+    @Name("try_.Block")
+    @Label("Try Block")
+    @Category("Try")
+    @Description("A block run by Try that failed or was slow")
+    static final class BlockEvent extends Event {
+
+        @Label("Operation")
+        String operation;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+        @Label("Success")
+        boolean success;
+
+        @Label("Exception Class")
+        String exceptionClass;
+
+        @Label("Message")
+        String message;
+    }
+}
@@ -0,0 +1,188 @@
+package try_;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A memoized function: the result of {@code Try.asTry(() -> f.apply(key))} is cached
+ * per key, so an expensive computation runs once per key instead of once per call.
+ * <p/>
+ * {@code Success} results are kept until they are evicted by the size bound
+ * (least recently used first) or by their optional expiry. {@code Failure} results
+ * are not cached unless {@link Builder#cacheFailures(long, TimeUnit)} is set, in which
+ * case they are kept for that time only. Concurrent calls with the same key wait for
+ * one computation; calls with different keys only contend within one segment of the
+ * underlying Guava cache.
+ * <pre>{@code
+ *     Memo<String, Config> parse = Memo.of(ConfigParser::parse);
+ *     Try<Config> config = parse.apply(text);
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 18.10.26
+ */
+public final class Memo<K, V> implements FunctionEx<K, Try<V>> {
+
+    private final FunctionEx<? super K, ? extends V> f;
+    private final Cache<K, Try<V>> successes;
+    private final Cache<K, Try<V>> failures;
+
+    private Memo(Builder builder, FunctionEx<? super K, ? extends V> f) {
+        this.f = f;
+        CacheBuilder<Object, Object> successBuilder = CacheBuilder.newBuilder()
+                .maximumSize(builder.maximumSize)
+                .concurrencyLevel(builder.concurrencyLevel);
+        if (builder.successTtlNanos >= 0) successBuilder.expireAfterWrite(builder.successTtlNanos, TimeUnit.NANOSECONDS);
+        this.successes = successBuilder.build();
+        if (builder.failureTtlNanos >= 0) {
+            this.failures = CacheBuilder.newBuilder()
+                    .maximumSize(builder.maximumSize)
+                    .concurrencyLevel(builder.concurrencyLevel)
+                    .expireAfterWrite(builder.failureTtlNanos, TimeUnit.NANOSECONDS)
+                    .build();
+        } else this.failures = null;
+    }
+
+    /**
+     * Memoizes the successful results of {@code f}, keeping at most 10 000 of them.
+     */
+    public static <K, V> Memo<K, V> of(FunctionEx<? super K, ? extends V> f) {
+        return newBuilder().build(f);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached result for {@code key}, computing it if needed. Never throws
+     * except for fatal errors, which are not cached.
+     */
+    @Override
+    public Try<V> apply(final K key) {
+        Objects.requireNonNull(key);
+        if (failures != null) {
+            Try<V> failure = failures.getIfPresent(key);
+            if (failure != null) return failure;
+        }
+        try {
+            return successes.get(key, () -> {
+                Try<V> result = Try.asTry(() -> f.apply(key));
+                if (result.isFailure()) {
+                    if (failures != null) failures.put(key, result);
+                    throw new FailedComputation(result);
+                }
+                return result;
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            return failureOf(e.getCause());
+        }
+    }
+
+    /**
+     * Discards the cached result of {@code key}.
+     */
+    public void invalidate(K key) {
+        successes.invalidate(key);
+        if (failures != null) failures.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        successes.invalidateAll();
+        if (failures != null) failures.invalidateAll();
+    }
+
+    /**
+     * @return the approximate number of cached results
+     */
+    public long size() {
+        return successes.size() + (failures == null ? 0 : failures.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Try<V> failureOf(Throwable cause) {
+        if (cause instanceof FailedComputation) return (Try<V>) ((FailedComputation) cause).result;
+        // only fatal errors escape Try.asTry
+        Errors.throwAsUnchecked(cause);
+        return Try.Failure(cause);
+    }
+
+    /**
+     * Carries a {@code Failure} out of the cache loader to every caller waiting for it.
+     */
+    private static final class FailedComputation extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Try<?> result;
+
+        private FailedComputation(Try<?> result) {
+            super(null, null, false, false);
+            this.result = result;
+        }
+    }
+
+    /**
+     * Builder of {@link Memo}. By default at most 10 000 successes are kept without
+     * expiry and failures are not cached.
+     */
+    public static final class Builder {
+
+        private long maximumSize = 10000;
+        private long successTtlNanos = -1;
+        private long failureTtlNanos = -1;
+        private int concurrencyLevel = 16;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximum number of cached results; least recently used ones are evicted first.
+         */
+        public Builder maximumSize(long size) {
+            if (size < 0) throw new IllegalArgumentException("size should not be negative: " + size);
+            this.maximumSize = size;
+            return this;
+        }
+
+        /**
+         * Expires a cached {@code Success} this long after it was computed.
+         */
+        public Builder expireSuccesses(long duration, TimeUnit unit) {
+            if (duration < 0) throw new IllegalArgumentException("duration should not be negative: " + duration);
+            this.successTtlNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Caches {@code Failure} results too, for {@code duration} after they were computed.
+         */
+        public Builder cacheFailures(long duration, TimeUnit unit) {
+            if (duration < 0) throw new IllegalArgumentException("duration should not be negative: " + duration);
+            this.failureTtlNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Number of independently locked segments of the cache.
+         */
+        public Builder concurrencyLevel(int level) {
+            if (level <= 0) throw new IllegalArgumentException("level should be positive: " + level);
+            this.concurrencyLevel = level;
+            return this;
+        }
+
+        public <K, V> Memo<K, V> build(FunctionEx<? super K, ? extends V> f) {
+            return new Memo<>(this, Objects.requireNonNull(f));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.SupplierEx;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link Try#firstSuccess} and {@link Try#hedged}: attempts run as
+ * {@code FutureTask}s of an {@code ExecutorCompletionService}, so the caller waits on
+ * the completion queue and the losers are interrupted through {@code cancel(true)}. An
+ * attempt rejected by the executor counts as a failed one, the race goes on with the
+ * attempts already running.
+ *
+ * @since 18.10.26
+ */
+final class Race<T> {
+
+    private final CompletionService<Try<T>> completion;
+    private final List<Future<Try<T>>> started;
+    private final List<Throwable> causes;
+    private final Iterator<? extends SupplierEx<? extends T>> pending;
+
+    private Race(Collection<? extends SupplierEx<? extends T>> attempts, Executor executor) {
+        if (attempts.isEmpty()) throw new IllegalArgumentException("no attempts to run");
+        this.completion = new ExecutorCompletionService<>(executor);
+        this.started = new ArrayList<>(attempts.size());
+        this.causes = new ArrayList<>(attempts.size());
+        this.pending = attempts.iterator();
+    }
+
+    /**
+     * Starts all attempts at once.
+     */
+    static <T> Try<T> firstSuccess(Collection<? extends SupplierEx<? extends T>> attempts, Executor executor) {
+        return new Race<T>(attempts, executor).run(-1);
+    }
+
+    /**
+     * Starts the next attempt when no attempt has completed for {@code delay}, or as soon
+     * as every started attempt has failed.
+     */
+    static <T> Try<T> hedged(Collection<? extends SupplierEx<? extends T>> attempts, long delay, TimeUnit unit,
+                             Executor executor) {
+        if (delay < 0) throw new IllegalArgumentException("delay should not be negative: " + delay);
+        return new Race<T>(attempts, executor).run(unit.toNanos(delay));
+    }
+
+    /**
+     * @param hedgeNanos delay between two attempts, or a negative value to start them all at once
+     */
+    private Try<T> run(long hedgeNanos) {
+        try {
+            int running = 0;
+            if (hedgeNanos < 0) {
+                while (pending.hasNext()) if (start()) running++;
+            } else if (startNext()) running++;
+            while (running > 0) {
+                Future<Try<T>> done = pending.hasNext()
+                        ? completion.poll(hedgeNanos, TimeUnit.NANOSECONDS)
+                        : completion.take();
+                if (done == null) {
+                    if (startNext()) running++;
+                    continue;
+                }
+                running--;
+                Try<T> result = resultOf(done);
+                if (result.isSuccess()) return result;
+                causes.add(Try.exceptionOf(result));
+                if (running == 0 && startNext()) running++;
+            }
+            return Try.Failure(Failures.allAttemptsFailed(causes));
+        } catch (InterruptedException e) {
+            Errors.throwAsUnchecked(e);
+            return null;
+        } finally {
+            for (Future<Try<T>> future : started) future.cancel(true);
+        }
+    }
+
+    /**
+     * Starts the next attempt; a rejected one is recorded as failed.
+     *
+     * @return {@code true} if the attempt was started
+     */
+    private boolean start() {
+        final SupplierEx<? extends T> attempt = pending.next();
+        try {
+            started.add(completion.submit(() -> Try.asTry(attempt)));
+            return true;
+        } catch (RejectedExecutionException e) {
+            causes.add(e);
+            return false;
+        }
+    }
+
+    /**
+     * Starts the next attempt the executor accepts, if any.
+     */
+    private boolean startNext() {
+        while (pending.hasNext()) if (start()) return true;
+        return false;
+    }
+
+    private static <T> Try<T> resultOf(Future<Try<T>> done) throws InterruptedException {
+        try {
+            return done.get();
+        } catch (ExecutionException e) {
+            // only fatal errors escape Try.asTry
+            Errors.throwAsUnchecked(e.getCause());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.Predicate;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how {@link Try#retry(utils.function.exceptional.SupplierEx, RetryPolicy)} and
+ * {@link Try#retryAsync(utils.function.exceptional.SupplierEx, RetryPolicy,
+ * java.util.concurrent.ScheduledExecutorService)} repeat a failing block: how many
+ * attempts are made, which failures are retried and how long to wait between attempts.
+ * <p/>
+ * The delay before attempt {@code n + 1} is {@code initialDelay * multiplier^(n - 1)},
+ * capped at {@code maxDelay}, and then reduced by a random share of up to {@code jitter}
+ * of it, so that clients failing together do not retry in lockstep. Fatal errors, as
+ * defined by {@link Errors#isFatal(Throwable)}, are never retried.
+ * <pre>{@code
+ *     RetryPolicy policy = RetryPolicy.newBuilder()
+ *             .maxAttempts(4)
+ *             .backoff(50, 2000, TimeUnit.MILLISECONDS)
+ *             .retryOn(t -> t instanceof IOException)
+ *             .build();
+ * }</pre>
+ * Instances are immutable.
+ *
+ * @since 18.10.26
+ */
+public final class RetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate<? super Throwable> retryOn;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelayNanos;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryOn = builder.retryOn;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * @return {@code true} if a block that failed with {@code failure} on attempt
+     * {@code attempt} (counted from 1) should be run again
+     */
+    boolean shouldRetry(Throwable failure, int attempt) {
+        return attempt < maxAttempts && !Errors.isFatal(failure) && retryOn.test(failure);
+    }
+
+    /**
+     * @return the delay in nanoseconds to wait after the failed attempt {@code attempt}
+     */
+    long delayNanos(int attempt) {
+        double delay = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, attempt - 1));
+        if (jitter > 0) delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+        return (long) delay;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialDelayNanos=" + initialDelayNanos +
+                ", maxDelayNanos=" + maxDelayNanos +
+                ", multiplier=" + multiplier +
+                ", jitter=" + jitter +
+                '}';
+    }
+
+    /**
+     * Builder of {@link RetryPolicy}. By default a block is tried 3 times, every non-fatal
+     * failure is retried, and the delay starts at 100 milliseconds, doubles after each
+     * attempt up to 10 seconds and has a jitter of 0.5.
+     */
+    public static final class Builder {
+
+        private int maxAttempts = 3;
+        private long initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private long maxDelayNanos = TimeUnit.SECONDS.toNanos(10);
+        private double multiplier = 2;
+        private double jitter = 0.5;
+        private Predicate<? super Throwable> retryOn = t -> true;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximum number of attempts, including the first one.
+         */
+        public Builder maxAttempts(int attempts) {
+            if (attempts < 1) throw new IllegalArgumentException("attempts should be positive: " + attempts);
+            this.maxAttempts = attempts;
+            return this;
+        }
+
+        /**
+         * Delay after the first failed attempt and upper bound of the delay.
+         */
+        public Builder backoff(long initialDelay, long maxDelay, TimeUnit unit) {
+            if (initialDelay < 0 || maxDelay < initialDelay) {
+                throw new IllegalArgumentException("expected 0 <= initialDelay <= maxDelay, got " + initialDelay + " and " + maxDelay);
+            }
+            this.initialDelayNanos = unit.toNanos(initialDelay);
+            this.maxDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Factor the delay grows by after each failed attempt; 1 gives a fixed delay.
+         */
+        public Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1)) throw new IllegalArgumentException("multiplier should be at least 1: " + multiplier);
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Largest share of a delay, between 0 and 1, that is randomly taken off it.
+         */
+        public Builder jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) throw new IllegalArgumentException("jitter should be within [0, 1]: " + jitter);
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Only failures matching {@code p} are retried; fatal errors never are.
+         */
+        public Builder retryOn(Predicate<? super Throwable> p) {
+            this.retryOn = Objects.requireNonNull(p);
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
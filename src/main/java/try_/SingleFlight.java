@@ -0,0 +1,82 @@
+package try_;
+
+import utils.function.exceptional.SupplierEx;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import static try_.Try.Failure;
+
+/**
+ * Deduplicates concurrent computations by key: while a computation for a key is in
+ * flight, every other caller with the same key waits for it and receives the very same
+ * {@code Try}, whether it is a {@code Success} or a {@code Failure}.
+ * <p/>
+ * Nothing is cached: the key is forgotten as soon as its computation completes, so the
+ * next call after that runs the computation again. Use {@link Memo} to keep results.
+ * <pre>{@code
+ *     SingleFlight<String, Profile> profiles = new SingleFlight<>();
+ *     Try<Profile> profile = profiles.execute(userId, () -> remote.loadProfile(userId));
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @param <T> the type of the results
+ * @since 18.10.26
+ */
+public final class SingleFlight<K, T> {
+
+    private final ConcurrentMap<K, TryFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code block} on the calling thread, as {@link Try#asTry(SupplierEx)} would,
+     * unless a computation for {@code key} is already in flight, in which case waits for
+     * that one and returns its result.
+     *
+     * @throws InterruptedException if interrupted while waiting for another caller's computation
+     */
+    public Try<T> execute(K key, SupplierEx<? extends T> block) throws InterruptedException {
+        Objects.requireNonNull(block);
+        TryFuture<T> existing = inFlight.get(key);
+        if (existing != null) return existing.get();
+        TryFuture<T> promise = TryFuture.promise();
+        existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) return existing.get();
+        try {
+            Try<T> result = Try.asTry(block);
+            promise.complete(result);
+            return result;
+        } catch (Throwable t) {
+            // a fatal error: the waiters get it as a failure, the caller gets it thrown
+            promise.complete(Failure(t));
+            throw t;
+        } finally {
+            inFlight.remove(key, promise);
+        }
+    }
+
+    /**
+     * Starts {@code block} on {@code executor} unless a computation for {@code key} is
+     * already in flight, and returns the future of the computation for {@code key}.
+     */
+    public TryFuture<T> submit(final K key, SupplierEx<? extends T> block, Executor executor) {
+        Objects.requireNonNull(block);
+        TryFuture<T> existing = inFlight.get(key);
+        if (existing != null) return existing;
+        final TryFuture<T> promise = TryFuture.promise();
+        existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) return existing;
+        // registered first, so the key is released before any waiter's callback runs
+        promise.onComplete(result -> inFlight.remove(key, promise));
+        TryFuture.<T>asTry(block, executor).onComplete(promise::complete);
+        return promise;
+    }
+
+    /**
+     * @return the number of keys with a computation in flight
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
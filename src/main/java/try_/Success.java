@@ -1,12 +1,10 @@
 package try_;
 
-import utils.control.Errors;
-import utils.function.exceptional.ConsumerEx;
-import utils.function.exceptional.FunctionEx;
-import utils.function.exceptional.PredicateEx;
-import utils.function.exceptional.SupplierEx;
+import utils.stream.SingletonSpliterator;
 
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 /**
  * User: Dmitrii Fateev
@@ -15,87 +13,24 @@ import java.util.NoSuchElementException;
  */
 final class Success<T> extends Try<T> {
 
-    private final T value;
-
     protected Success(T value) {
-        this.value = value;
-    }
-
-    @Override
-    public boolean isFailure() {
-        return false;
+        super(value);
     }
 
     @Override
-    public boolean isSuccess() {
-        return true;
+    public Iterator<T> iterator() {
+        return new SuccessIter<>(value());
     }
 
     @Override
-    public T get() {
-        return value;
-    }
-
-    @Override
-    public Try<Throwable> failed() {
-        return Failure(new UnsupportedOperationException("Success.failed"));
-    }
-
-    @Override
-    public Try<T> filter(PredicateEx<? super T> p) {
-        try {
-            if (p.test(value)) return this;
-            else return Failure(new NoSuchElementException("Predicate does not hold for " + value));
-        } catch (Throwable t) {
-            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
-            return Failure(t);
-        }
-
-    }
-
-    @Override
-    public <U> Try<U> flatMap(FunctionEx<? super T, ? extends Try<U>> f) {
-        try {
-            return f.apply(value);
-        } catch (Throwable t) {
-            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
-            return Failure(t);
-        }
-    }
-
-    @Override
-    public void foreach(ConsumerEx<? super T> f) {
-        try {
-            f.accept(value);
-        } catch (Throwable e) {
-            Errors.throwAsUnchecked(e);
-        }
-    }
-
-    @Override
-    public <U> Try<U> map(final FunctionEx<? super T, ? extends U> f) {
-        return Try.asTry(new SupplierEx<U>() {
-            @Override
-            public U get() throws Exception {
-                return f.apply(value);
-            }
-        });
-    }
-
-    @Override
-    public Try<T> recover(FunctionEx<Throwable, ? extends T> f) {
-        return this;
-    }
-
-    @Override
-    public Try<T> recoverWith(FunctionEx<Throwable, ? extends Try<T>> rescueException) {
-        return this;
+    public Spliterator<T> spliterator() {
+        return new SingletonSpliterator<>(value());
     }
 
     @Override
     public String toString() {
         return "Success{" +
-                value +
+                value() +
                 '}';
     }
 
@@ -106,12 +41,40 @@ final class Success<T> extends Try<T> {
 
         Success success = (Success) o;
 
-        return value.equals(success.value);
+        return value().equals(success.value());
 
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value().hashCode();
+    }
+
+    private static class SuccessIter<T> implements Iterator<T> {
+        private boolean hasNext = true;
+        private final T elem;
+
+        private SuccessIter(T elem) {
+            this.elem = elem;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (hasNext) {
+                hasNext = false;
+                return this.elem;
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove is not supported");
+        }
     }
 }
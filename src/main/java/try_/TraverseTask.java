@@ -0,0 +1,70 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fork/join task behind {@link Try#traverseParallel}. The input range is split in
+ * halves down to a threshold and the leaves apply the function in order. The first
+ * failure is published in a shared reference; every leaf checks it before each
+ * element, so the remaining work is abandoned as soon as one element fails.
+ *
+ * @since 18.10.26
+ */
+final class TraverseTask<T, U> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] values;
+    private final Object[] results;
+    private final FunctionEx<? super T, ? extends Try<U>> f;
+    private final AtomicReference<Try<?>> failure;
+    private final int threshold;
+    private final int from;
+    private final int to;
+
+    TraverseTask(Object[] values, Object[] results, FunctionEx<? super T, ? extends Try<U>> f,
+                 AtomicReference<Try<?>> failure, int threshold, int from, int to) {
+        this.values = values;
+        this.results = results;
+        this.f = f;
+        this.failure = failure;
+        this.threshold = threshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (failure.get() != null) return;
+        if (to - from <= threshold) {
+            computeSequentially();
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new TraverseTask<>(values, results, f, failure, threshold, from, middle),
+                new TraverseTask<>(values, results, f, failure, threshold, middle, to));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void computeSequentially() {
+        for (int i = from; i < to; i++) {
+            if (failure.get() != null) return;
+            Try<U> result;
+            try {
+                result = f.apply((T) values[i]);
+            } catch (Throwable t) {
+                if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                result = Try.Failure(t);
+            }
+            if (result.isFailure()) {
+                failure.compareAndSet(null, result);
+                return;
+            }
+            results[i] = result.get();
+        }
+    }
+}
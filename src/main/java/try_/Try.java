@@ -1,26 +1,77 @@
 package try_;
 
 import option.Option;
+import utils.control.CanonicalPool;
 import utils.control.Errors;
 import utils.function.exceptional.ConsumerEx;
 import utils.function.exceptional.FunctionEx;
 import utils.function.exceptional.PredicateEx;
 import utils.function.exceptional.SupplierEx;
+import utils.function.exceptional.ToDoubleFunctionEx;
+import utils.function.exceptional.ToIntFunctionEx;
+import utils.function.exceptional.ToLongFunctionEx;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static option.Option.None;
 import static option.Option.Some;
 
 /**
+ * The result of a computation: either a {@code Success} with its value or a
+ * {@code Failure} with the exception it threw.
+ * <p/>
+ * Both cases keep their value or exception in the one field of this class and every
+ * combinator is {@code final} and tests the exact class, so a call site that sees both
+ * {@code Success} and {@code Failure} costs a class compare and a branch instead of a
+ * type-profiled virtual call, and stays cheap when it is megamorphic.
+ *
  * @author : Dmitrii Fateev
  *         E-mail: wearing.fateev@gmail.com
  * @since: 25.01.14
  */
-public abstract class Try<T> {
+public abstract class Try<T> implements Iterable<T> {
 
-    protected Try(){}
+    /**
+     * Shared {@code Success} instances of the values pooled by {@link CanonicalPool}.
+     */
+    private static final CanonicalPool<Try<?>> POOL = new CanonicalPool<Try<?>>(Success<Object>::new);
+    /**
+     * Shared {@code Success} of {@code null}, the result of blocks run for their side effects.
+     */
+    private static final Try<?> SUCCESS_NULL = new Success<>(null);
+
+    /**
+     * The value of a {@code Success} or the exception of a {@code Failure}.
+     */
+    private final Object result;
+
+    Try(Object result) {
+        this.result = result;
+    }
 
-    @SuppressWarnings("unchecked")
     public static <T> Try<T> asTry(SupplierEx<? extends T> block) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return run(block);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.AS_TRY, start, run(block));
+    }
+
+    /**
+     * {@link #asTry(SupplierEx)} without instrumentation, for the combinators that
+     * report under their own operation.
+     */
+    static <T> Try<T> run(SupplierEx<? extends T> block) {
           try {
               return Success(block.get());
           } catch (Throwable t){
@@ -29,38 +80,520 @@ public abstract class Try<T> {
           }
     }
 
+    /**
+     * Returns a {@code Success} of {@code value}. For {@code null}, booleans, small boxed
+     * integers, enum constants and the empty string the returned instance is shared, as
+     * described in {@link CanonicalPool}.
+     */
     @SuppressWarnings("unchecked")
     public static <T, X extends Throwable> Try<T> Success(T value){
+        if (value == null) return (Try<T>) SUCCESS_NULL;
         if (value instanceof Throwable) Errors.throwAsUnchecked((X)value);
-        return new Success<>(value);
+        Try<T> pooled = (Try<T>) POOL.canonical(value);
+        return pooled != null ? pooled : new Success<>(value);
+    }
+
+    /**
+     * Returns a shared {@code Success} of {@code value}: the same instance for all values
+     * equal to it, like {@code String.intern}. Meant for a bounded set of values the
+     * application wraps over and over, since interned instances are never released.
+     *
+     * @throws NullPointerException if value is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, X extends Throwable> Try<T> intern(T value) {
+        if (value == null) throw new NullPointerException("value should not be null");
+        if (value instanceof Throwable) Errors.throwAsUnchecked((X) value);
+        return (Try<T>) POOL.intern(value);
     }
 
     public static <T> Try<T> Failure(Throwable exception){
         return new Failure<>(exception);
     }
 
-    public abstract boolean isFailure();
+    /**
+     * Turns a sequence of {@code Try} into a {@code Try} of a list: {@code Success} of all
+     * values in iteration order, or the first {@code Failure}. Iteration stops at the
+     * first failure.
+     *
+     * @param tries the results to combine
+     * @return {@code Success} of the values or the first {@code Failure}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Try<List<T>> sequence(Iterable<? extends Try<? extends T>> tries) {
+        List<T> values = newList(tries);
+        for (Try<? extends T> t : tries) {
+            if (t.isFailure()) return (Try<List<T>>) t;
+            values.add(t.get());
+        }
+        return Success(values);
+    }
 
-    public abstract boolean isSuccess();
+    /**
+     * Applies {@code f} to every element in iteration order and combines the results as
+     * {@link #sequence(Iterable)} does. Stops at the first failure, so {@code f} is not
+     * applied to the remaining elements. An exception thrown by {@code f} is a failure.
+     *
+     * @param values the elements to map
+     * @param f      the {@code Try}-bearing mapping function
+     * @return {@code Success} of the mapped values or the first {@code Failure}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> Try<List<U>> traverse(Iterable<? extends T> values, FunctionEx<? super T, ? extends Try<U>> f) {
+        List<U> results = newList(values);
+        for (T value : values) {
+            Try<U> result;
+            try {
+                result = f.apply(value);
+            } catch (Throwable t) {
+                if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                return Failure(t);
+            }
+            if (result.isFailure()) return (Try<List<U>>) (Try<?>) result;
+            results.add(result.get());
+        }
+        return Success(results);
+    }
+
+    /**
+     * Parallel {@link #traverse(Iterable, FunctionEx)} on the common fork/join pool.
+     *
+     * @see #traverseParallel(Collection, FunctionEx, ForkJoinPool)
+     */
+    public static <T, U> Try<List<U>> traverseParallel(Collection<? extends T> values,
+                                                       FunctionEx<? super T, ? extends Try<U>> f) {
+        return traverseParallel(values, f, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies {@code f} to the elements in parallel on {@code pool} and combines the
+     * results in the order of {@code values}. Once an element fails the remaining work
+     * is abandoned and that {@code Failure} is returned; when several elements fail
+     * concurrently, any one of their failures may be returned.
+     * <p/>
+     * Meant for large inputs, where the split cost is paid off; for small ones prefer
+     * {@link #traverse(Iterable, FunctionEx)}.
+     *
+     * @param values the elements to map
+     * @param f      the {@code Try}-bearing mapping function, must be thread-safe
+     * @param pool   the pool to run on
+     * @return {@code Success} of the mapped values or a {@code Failure}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> Try<List<U>> traverseParallel(Collection<? extends T> values,
+                                                       FunctionEx<? super T, ? extends Try<U>> f,
+                                                       ForkJoinPool pool) {
+        Object[] input = values.toArray();
+        Object[] results = new Object[input.length];
+        AtomicReference<Try<?>> failure = new AtomicReference<>();
+        int threshold = Math.max(1, input.length / (pool.getParallelism() << 2));
+        pool.invoke(new TraverseTask<>(input, results, f, failure, threshold, 0, input.length));
+        if (failure.get() != null) return (Try<List<U>>) failure.get();
+        List<U> list = new ArrayList<>(results.length);
+        for (Object result : results) list.add((U) result);
+        return Success(list);
+    }
+
+    /**
+     * Runs {@code block} as {@link #asTry(SupplierEx)} does and, while it fails with a
+     * failure that {@code policy} retries, sleeps for the backoff delay and runs it again.
+     * Returns the first {@code Success} or the last {@code Failure}. Fatal errors are
+     * thrown and never retried, including the {@code InterruptedException} of an
+     * interrupted sleep. An exception thrown by the {@code retryOn} predicate of
+     * {@code policy} is returned as a {@code Failure}.
+     *
+     * @param block  the computation to retry
+     * @param policy the number of attempts, the backoff and the failures to retry
+     * @return the result of the last attempt
+     * @see #retryAsync(SupplierEx, RetryPolicy, ScheduledExecutorService)
+     */
+    public static <T> Try<T> retry(SupplierEx<? extends T> block, RetryPolicy policy) {
+        for (int attempt = 1; ; attempt++) {
+            Try<T> result = asTry(block);
+            long delayNanos;
+            try {
+                if (result.isSuccess() || !policy.shouldRetry(exceptionOf(result), attempt)) return result;
+                delayNanos = policy.delayNanos(attempt);
+            } catch (Throwable t) {
+                if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                return Failure(t);
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Errors.throwAsUnchecked(e);
+            }
+        }
+    }
+
+    /**
+     * Non-blocking {@link #retry(SupplierEx, RetryPolicy)}: every attempt runs on
+     * {@code scheduler}, and a failed attempt is rescheduled after the backoff delay
+     * instead of holding a thread in a sleep.
+     *
+     * @param block     the computation to retry
+     * @param policy    the number of attempts, the backoff and the failures to retry
+     * @param scheduler runs the attempts
+     * @return the future result of the last attempt
+     */
+    public static <T> TryFuture<T> retryAsync(SupplierEx<? extends T> block, RetryPolicy policy,
+                                              ScheduledExecutorService scheduler) {
+        TryFuture<T> promise = TryFuture.promise();
+        try {
+            scheduler.execute(new AsyncRetry<>(block, policy, scheduler, promise));
+        } catch (RejectedExecutionException e) {
+            promise.failure(e);
+        }
+        return promise;
+    }
+
+    /**
+     * Runs {@code block} on {@code executor} and waits for it at most {@code timeout}.
+     * Same as {@code asTry(block, Deadline.after(timeout), executor)}.
+     *
+     * @param block    the computation to run
+     * @param timeout  the time budget of {@code block}
+     * @param executor runs {@code block}
+     * @return the result of {@code block}, or a {@code Failure} of {@code TimeoutException}
+     * @see #asTry(SupplierEx, Deadline, Executor)
+     */
+    public static <T> Try<T> asTry(SupplierEx<? extends T> block, Duration timeout, Executor executor) {
+        return asTry(block, Deadline.after(timeout), executor);
+    }
 
-    public abstract T get();
+    /**
+     * Runs {@code block} on {@code executor} and waits for it until {@code deadline}, or
+     * until the deadline the calling thread runs under if that one is earlier. The block
+     * sees the effective deadline as {@link Deadline#current()}, so bounded blocks nested
+     * in it inherit what is left of the budget.
+     * <p/>
+     * When the deadline passes first, the worker is interrupted and a {@code Failure} of
+     * {@code TimeoutException} is returned; an already expired deadline fails without
+     * running {@code block}. A rejected execution results in a {@code Failure} of the
+     * {@code RejectedExecutionException}. Fatal errors of {@code block}, and the
+     * {@code InterruptedException} of an interrupted wait, are thrown.
+     *
+     * @param block    the computation to run
+     * @param deadline the time by which {@code block} has to complete
+     * @param executor runs {@code block}
+     * @return the result of {@code block}, or a {@code Failure} of {@code TimeoutException}
+     */
+    public static <T> Try<T> asTry(SupplierEx<? extends T> block, Deadline deadline, Executor executor) {
+        return Deadline.call(block, deadline, executor);
+    }
 
-    public abstract Try<Throwable> failed();
+    /**
+     * Same as {@link #all(Collection, Executor)} on the default executor: a virtual thread
+     * per block on runtimes that support them, otherwise a cached pool of daemon threads.
+     */
+    public static <T> Try<List<T>> all(Collection<? extends SupplierEx<? extends T>> blocks) {
+        return all(blocks, DefaultExecutor.INSTANCE);
+    }
 
-    public abstract Try<T> filter(PredicateEx<? super T> p);
+    /**
+     * Runs all {@code blocks} concurrently on {@code executor} and returns {@code Success}
+     * of their values in iteration order if all of them succeed. Fails fast otherwise:
+     * the first {@code Failure} to complete is returned at once and the blocks still
+     * running are cancelled and interrupted. A rejected execution results in a
+     * {@code Failure} of the {@code RejectedExecutionException}. Fatal errors, and the
+     * {@code InterruptedException} of an interrupted wait, are thrown.
+     *
+     * @param blocks   the computations to run
+     * @param executor runs the blocks
+     * @return {@code Success} of all values, or the first failure
+     * @see #allSettled(Collection, Executor)
+     */
+    public static <T> Try<List<T>> all(Collection<? extends SupplierEx<? extends T>> blocks, Executor executor) {
+        return Batch.all(blocks, executor);
+    }
 
-    public abstract<U> Try<U> flatMap(FunctionEx<? super T, ? extends Try<U>> f);
+    /**
+     * Same as {@link #allSettled(Collection, Executor)} on the default executor of
+     * {@link #all(Collection)}.
+     */
+    public static <T> List<Try<T>> allSettled(Collection<? extends SupplierEx<? extends T>> blocks) {
+        return allSettled(blocks, DefaultExecutor.INSTANCE);
+    }
 
-    public abstract void foreach(ConsumerEx<? super T> f);
+    /**
+     * Runs all {@code blocks} concurrently on {@code executor}, waits for every one of
+     * them and returns their results in iteration order. A block whose execution is
+     * rejected gets a {@code Failure} of the {@code RejectedExecutionException}. Fatal
+     * errors, and the {@code InterruptedException} of an interrupted wait, are thrown
+     * after the blocks still running are cancelled.
+     *
+     * @param blocks   the computations to run
+     * @param executor runs the blocks
+     * @return the result of every block
+     */
+    public static <T> List<Try<T>> allSettled(Collection<? extends SupplierEx<? extends T>> blocks, Executor executor) {
+        return Batch.allSettled(blocks, executor);
+    }
 
-    public abstract <U> Try<U> map(FunctionEx<? super T,? extends U> f);
+    /**
+     * Runs all {@code attempts} concurrently on {@code executor} and returns the first
+     * {@code Success}; the attempts still running are then cancelled and interrupted.
+     * If every attempt fails, returns a {@code Failure} whose exception carries the
+     * failures of all attempts as suppressed exceptions. Fatal errors thrown by an
+     * attempt, or the {@code InterruptedException} of an interrupted wait, are thrown.
+     *
+     * @param attempts interchangeable computations, e.g. the same request to several replicas
+     * @param executor runs the attempts
+     * @return the first successful result
+     * @throws IllegalArgumentException if {@code attempts} is empty
+     * @see #hedged(Collection, long, TimeUnit, Executor)
+     */
+    public static <T> Try<T> firstSuccess(Collection<? extends SupplierEx<? extends T>> attempts, Executor executor) {
+        return Race.firstSuccess(attempts, executor);
+    }
 
-    public abstract Try<T> recover(FunctionEx<Throwable, ? extends T> f);
+    /**
+     * Hedged variant of {@link #firstSuccess(Collection, Executor)}: starts only the first
+     * of {@code attempts}, and starts the next one when none of the running attempts has
+     * completed within {@code delay}, or as soon as all of them have failed. A fast first
+     * attempt therefore costs one execution, while a slow one is backed up after
+     * {@code delay}, which bounds the tail latency caused by a single slow replica.
+     *
+     * @param attempts interchangeable computations, tried in iteration order
+     * @param delay    how long to wait for a result before starting the next attempt
+     * @param unit     the unit of {@code delay}
+     * @param executor runs the attempts
+     * @return the first successful result
+     * @throws IllegalArgumentException if {@code attempts} is empty or {@code delay} is negative
+     */
+    public static <T> Try<T> hedged(Collection<? extends SupplierEx<? extends T>> attempts, long delay, TimeUnit unit,
+                                    Executor executor) {
+        return Race.hedged(attempts, delay, unit, executor);
+    }
 
-    public abstract Try<T> recoverWith(FunctionEx<Throwable, ? extends Try<T>> rescueException);
+    /**
+     * Returns a new empty {@link TryPipeline}, to be extended with the steps that are
+     * then applied in one pass to every input.
+     */
+    public static <T> TryPipeline<T, T> pipeline() {
+        return TryPipeline.identity();
+    }
 
     @SuppressWarnings("unchecked")
-    public T getOrElse(SupplierEx<? extends T> def) {
+    final T value() {
+        return (T) result;
+    }
+
+    final Throwable exception() {
+        return (Throwable) result;
+    }
+
+    static Throwable exceptionOf(Try<?> failure) {
+        return ((Failure<?>) failure).exception();
+    }
+
+    private static <T> List<T> newList(Iterable<?> source) {
+        if (source instanceof Collection) return new ArrayList<>(((Collection<?>) source).size());
+        else return new ArrayList<>();
+    }
+
+    /**
+     * Switches between lightweight and fully traced failures for the exceptions
+     * the library creates itself, such as the one returned by {@link #filter} when
+     * the predicate does not hold or by {@link #failed()} on a {@code Success}.
+     * <p/>
+     * Lightweight failures are the default: they do not fill in a stack trace and
+     * build their message lazily. Enable full stack
+     * traces for debugging, either here or with the {@code try.fullStackTraces}
+     * system property. Exceptions thrown by user code are never affected.
+     *
+     * @param enabled {@code true} to create fully traced exceptions
+     */
+    public static void setFullStackTraces(boolean enabled) {
+        Failures.setFullStackTraces(enabled);
+    }
+
+    /**
+     * Installs {@code metrics} as the listener of the blocks run by {@code asTry},
+     * {@code map}, {@code flatMap}, {@code recover} and {@code recoverWith}, replacing
+     * the previous one; {@code null} turns the instrumentation off, which is the default.
+     *
+     * @param metrics the listener, or {@code null}
+     * @see TryStats
+     */
+    public static void setMetrics(TryMetrics metrics) {
+        Instrumentation.metrics = metrics;
+    }
+
+    /**
+     * @return the installed listener, if any
+     * @see #setMetrics(TryMetrics)
+     */
+    public static Option<TryMetrics> metrics() {
+        return Option.ofNullable(Instrumentation.metrics);
+    }
+
+    /**
+     * @return {@code true} if library-generated failures carry full stack traces
+     * @see #setFullStackTraces(boolean)
+     */
+    public static boolean isFullStackTraces() {
+        return Failures.isFullStackTraces();
+    }
+
+    public final boolean isFailure() {
+        return this instanceof Failure;
+    }
+
+    public final boolean isSuccess() {
+        return !(this instanceof Failure);
+    }
+
+    public final T get() {
+        if (isFailure()) throw (RuntimeException) exception();
+        return value();
+    }
+
+    public final Try<Throwable> failed() {
+        if (isSuccess()) return Failures.successFailed();
+        else return Success(exception());
+    }
+
+    public final Try<T> filter(PredicateEx<? super T> p) {
+        if (isFailure()) return this;
+        try {
+            if (p.test(value())) return this;
+            else return Failure(Failures.predicateDoesNotHold(value()));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public final <U> Try<U> flatMap(FunctionEx<? super T, ? extends Try<U>> f) {
+        if (isFailure()) return (Try<U>) this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyFlatMap(f);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.FLAT_MAP, start, applyFlatMap(f));
+    }
+
+    private <U> Try<U> applyFlatMap(FunctionEx<? super T, ? extends Try<U>> f) {
+        try {
+            return f.apply(value());
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public final void foreach(ConsumerEx<? super T> f) {
+        if (isFailure()) return;
+        try {
+            f.accept(value());
+        } catch (Throwable e) {
+            Errors.throwAsUnchecked(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public final <U> Try<U> map(FunctionEx<? super T, ? extends U> f) {
+        if (isFailure()) return (Try<U>) this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(f);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.MAP, start, applyMap(f));
+    }
+
+    private <U> Try<U> applyMap(FunctionEx<? super T, ? extends U> f) {
+        try {
+            return Success(f.apply(value()));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * Same as {@link #map(FunctionEx)}, with {@code f} returning an unboxed {@code int}.
+     */
+    public final TryInt mapToInt(ToIntFunctionEx<? super T> f) {
+        if (isFailure()) return TryInt.Failure(exception());
+        else return TryInt.map(value(), f);
+    }
+
+    /**
+     * Same as {@link #map(FunctionEx)}, with {@code f} returning an unboxed {@code long}.
+     */
+    public final TryLong mapToLong(ToLongFunctionEx<? super T> f) {
+        if (isFailure()) return TryLong.Failure(exception());
+        else return TryLong.map(value(), f);
+    }
+
+    /**
+     * Same as {@link #map(FunctionEx)}, with {@code f} returning an unboxed {@code double}.
+     */
+    public final TryDouble mapToDouble(ToDoubleFunctionEx<? super T> f) {
+        if (isFailure()) return TryDouble.Failure(exception());
+        else return TryDouble.map(value(), f);
+    }
+
+    public final Try<T> recover(FunctionEx<Throwable, ? extends T> f) {
+        if (isSuccess()) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecover(f);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.RECOVER, start, applyRecover(f));
+    }
+
+    private Try<T> applyRecover(FunctionEx<Throwable, ? extends T> f) {
+        try {
+            return Success(f.apply(exception()));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public final Try<T> recoverWith(FunctionEx<Throwable, ? extends Try<T>> rescueException) {
+        if (isSuccess()) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecoverWith(rescueException);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.RECOVER_WITH, start, applyRecoverWith(rescueException));
+    }
+
+    private Try<T> applyRecoverWith(FunctionEx<Throwable, ? extends Try<T>> rescueException) {
+        try {
+            return rescueException.apply(exception());
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * Applies {@code onSuccess} to the value of a {@code Success} or {@code onFailure}
+     * to the exception of a {@code Failure} and returns the result, without allocating
+     * an intermediate {@code Try}. As with {@link #foreach(ConsumerEx)}, an exception
+     * thrown by the function is rethrown as is.
+     * <pre>{@code
+     *     int status = response.fold(e -> 500, body -> 200);
+     * }</pre>
+     *
+     * @param <U>       the type of the result
+     * @param onFailure applied to the exception of a {@code Failure}
+     * @param onSuccess applied to the value of a {@code Success}
+     * @return the result of the function for the case of this {@code Try}
+     */
+    public final <U> U fold(FunctionEx<Throwable, ? extends U> onFailure, FunctionEx<? super T, ? extends U> onSuccess) {
+        try {
+            if (isSuccess()) return onSuccess.apply(value());
+            else return onFailure.apply(exception());
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public final T getOrElse(SupplierEx<? extends T> def) {
         if (isFailure()) try {
             return def.get();
         } catch (Exception e) {
@@ -69,7 +602,7 @@ public abstract class Try<T> {
         return get();
     }
 
-    public Try<T> orElse(SupplierEx<? extends Try<T>> def) {
+    public final Try<T> orElse(SupplierEx<? extends Try<T>> def) {
         if (isSuccess()) return this;
         else try {
             return def.get();
@@ -79,13 +612,23 @@ public abstract class Try<T> {
         }
     }
 
+    /**
+     * Returns a sequential {@code Stream} of the value of a {@code Success}, or an empty
+     * {@code Stream} for a {@code Failure}. The stream is exactly sized.
+     *
+     * @return a stream of zero or one element
+     */
+    public final Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     @SuppressWarnings("unchecked")
-    public Option<T> toOption(){
+    public final Option<T> toOption(){
         if (isFailure()) return None();
-        else return Some(get());
+        else return Some(value());
     }
 
-    public <U> Try<U> transform(FunctionEx<? super T, ? extends Try<U>> s, FunctionEx<Throwable, ? extends Try<U>> f) {
+    public final <U> Try<U> transform(FunctionEx<? super T, ? extends Try<U>> s, FunctionEx<Throwable, ? extends Try<U>> f) {
         try{
             if (isSuccess()) return s.apply(get());
             else return f.apply(failed().get());
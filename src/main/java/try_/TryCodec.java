@@ -0,0 +1,189 @@
+package try_;
+
+import utils.codec.ValueCodec;
+import utils.codec.ValueCodecs;
+import utils.control.Errors;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Binary {@link ValueCodec} of {@link Try}: a one-byte tag followed by the value of a
+ * {@code Success}, as written by the value codec, or by the exception of a
+ * {@code Failure}.
+ * <pre>
+ *     0x02 value                                  Success
+ *     0x04                                        Success of null
+ *     0x03 class message frameCount frame...      Failure
+ *     frame: declaringClass method file line
+ * </pre>
+ * Strings are written by {@link ValueCodecs#writeString}; {@code frameCount} and
+ * {@code line} are {@code int}s. A failure keeps the exception class name, the message
+ * and, if enabled with {@link #withStackTrace(int)}, the top frames of the stack trace;
+ * the cause and suppressed exceptions are not written.
+ * <p/>
+ * Reading recreates the exception through a public constructor taking the message,
+ * or taking no arguments when there is no message, if its class can be loaded; the
+ * decoded frames replace its stack trace. Otherwise, and for exceptions that are
+ * fatal by {@link Errors#isFatal(Throwable)}, which a {@code Try} never holds, it is a
+ * {@link DecodedException} that keeps the class name. Only read data written by a
+ * trusted peer, since the bytes choose which exception constructor runs.
+ * <pre>{@code
+ *     TryCodec<Option<String>> codec = TryCodec.of(OptionCodec.of(ValueCodecs.STRING)).withStackTrace(8);
+ *     codec.write(result, buffer);
+ * }</pre>
+ *
+ * @param <T> the type of the values
+ * @since 18.10.26
+ */
+public final class TryCodec<T> implements ValueCodec<Try<T>> {
+
+    private static final byte SUCCESS = 0x02;
+    private static final byte FAILURE = 0x03;
+    private static final byte SUCCESS_NULL = 0x04;
+    /**
+     * Encoded size of a frame with empty strings, to bound the frame count of a read.
+     */
+    private static final int MIN_FRAME_SIZE = 16;
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    private final ValueCodec<T> values;
+    private final int maxFrames;
+
+    private TryCodec(ValueCodec<T> values, int maxFrames) {
+        this.values = values;
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * Returns a codec whose {@code Success} values are encoded by {@code values} and
+     * whose failures are written without stack trace.
+     */
+    public static <T> TryCodec<T> of(ValueCodec<T> values) {
+        return new TryCodec<>(Objects.requireNonNull(values), 0);
+    }
+
+    /**
+     * Returns a codec like this one that writes at most the top {@code maxFrames} frames
+     * of the stack trace of a failure.
+     */
+    public TryCodec<T> withStackTrace(int maxFrames) {
+        if (maxFrames < 0) throw new IllegalArgumentException("maxFrames should not be negative: " + maxFrames);
+        return new TryCodec<>(values, maxFrames);
+    }
+
+    @Override
+    public void write(Try<T> result, ByteBuffer buffer) {
+        if (result.isFailure()) {
+            buffer.put(FAILURE);
+            writeException(Try.exceptionOf(result), buffer);
+        } else {
+            T value = result.get();
+            if (value == null) {
+                buffer.put(SUCCESS_NULL);
+            } else {
+                buffer.put(SUCCESS);
+                values.write(value, buffer);
+            }
+        }
+    }
+
+    @Override
+    public Try<T> read(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        switch (tag) {
+            case SUCCESS:
+                return Try.Success(values.read(buffer));
+            case SUCCESS_NULL:
+                return Try.Success(null);
+            case FAILURE:
+                return Try.Failure(readException(buffer));
+            default:
+                throw new IllegalArgumentException("not a try tag: " + tag);
+        }
+    }
+
+    private void writeException(Throwable exception, ByteBuffer buffer) {
+        String className = exception instanceof DecodedException
+                ? ((DecodedException) exception).className() : exception.getClass().getName();
+        ValueCodecs.writeString(className, buffer);
+        ValueCodecs.writeString(exception.getMessage(), buffer);
+        StackTraceElement[] frames = maxFrames == 0 ? NO_FRAMES : exception.getStackTrace();
+        int count = Math.min(maxFrames, frames.length);
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            StackTraceElement frame = frames[i];
+            ValueCodecs.writeString(frame.getClassName(), buffer);
+            ValueCodecs.writeString(frame.getMethodName(), buffer);
+            ValueCodecs.writeString(frame.getFileName(), buffer);
+            buffer.putInt(frame.getLineNumber());
+        }
+    }
+
+    private static Throwable readException(ByteBuffer buffer) {
+        String className = ValueCodecs.readString(buffer);
+        if (className == null) throw new IllegalArgumentException("failure without exception class");
+        String message = ValueCodecs.readString(buffer);
+        int count = buffer.getInt();
+        if (count < 0) throw new IllegalArgumentException("invalid frame count: " + count);
+        if (count > buffer.remaining() / MIN_FRAME_SIZE) throw new BufferUnderflowException();
+        StackTraceElement[] frames = count == 0 ? NO_FRAMES : new StackTraceElement[count];
+        for (int i = 0; i < count; i++) {
+            String declaringClass = ValueCodecs.readString(buffer);
+            String method = ValueCodecs.readString(buffer);
+            String file = ValueCodecs.readString(buffer);
+            frames[i] = new StackTraceElement(declaringClass, method, file, buffer.getInt());
+        }
+        Throwable exception = newException(className, message);
+        exception.setStackTrace(frames);
+        return exception;
+    }
+
+    private static Throwable newException(String className, String message) {
+        try {
+            Class<?> type = Class.forName(className, false, TryCodec.class.getClassLoader());
+            if (Throwable.class.isAssignableFrom(type)) {
+                Throwable exception = null;
+                try {
+                    exception = (Throwable) type.getConstructor(String.class).newInstance(message);
+                } catch (NoSuchMethodException e) {
+                    if (message == null) exception = (Throwable) type.getConstructor().newInstance();
+                }
+                // a Try never holds a fatal error, and callers rethrowing it would take a fatal path
+                if (exception != null && !Errors.isFatal(exception)) return exception;
+            }
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // not recreatable here, fall back to the generic exception
+        }
+        return new DecodedException(className, message);
+    }
+
+    /**
+     * A decoded failure whose exception class could not be recreated.
+     */
+    public static final class DecodedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        DecodedException(String className, String message) {
+            super(message, null, false, true);
+            this.className = className;
+        }
+
+        /**
+         * @return the name of the class of the encoded exception
+         */
+        public String className() {
+            return className;
+        }
+
+        @Override
+        public String toString() {
+            String message = getLocalizedMessage();
+            return message != null ? className + ": " + message : className;
+        }
+    }
+}
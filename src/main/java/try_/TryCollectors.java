@@ -0,0 +1,121 @@
+package try_;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * {@code Collector}s over streams of {@link Try}.
+ * <p/>
+ * Both collectors accumulate into plain per-thread containers and merge them in
+ * encounter order, so they need no synchronization and give the same result for
+ * sequential and parallel streams.
+ * <pre>{@code
+ *     TryCollectors.Partition<Config> loaded = files.parallelStream()
+ *             .map(file -> Try.asTry(() -> Config.load(file)))
+ *             .collect(TryCollectors.partitioning());
+ *
+ *     Try<List<Config>> all = files.stream()
+ *             .map(file -> Try.asTry(() -> Config.load(file)))
+ *             .collect(TryCollectors.toList());
+ * }</pre>
+ *
+ * @since 18.10.26
+ */
+public final class TryCollectors {
+
+    private TryCollectors() {
+    }
+
+    /**
+     * Returns a collector that splits the values of the {@code Success} elements from
+     * the exceptions of the {@code Failure} elements in one pass, both in encounter order.
+     */
+    public static <T> Collector<Try<? extends T>, ?, Partition<T>> partitioning() {
+        return Collector.of(Partition<T>::new, Partition::add, Partition::addAll);
+    }
+
+    /**
+     * Returns a collector to {@code Success} of the values of all elements in encounter
+     * order, or to the first {@code Failure} in encounter order. Elements after the
+     * first failure are ignored; a collector cannot stop the stream, so they are still
+     * produced.
+     */
+    public static <T> Collector<Try<? extends T>, ?, Try<List<T>>> toList() {
+        return Collector.of(Values<T>::new, Values::add, Values::addAll, Values::result);
+    }
+
+    /**
+     * Result of {@link #partitioning()}.
+     *
+     * @param <T> the type of the values
+     */
+    public static final class Partition<T> {
+
+        private final List<T> successes = new ArrayList<>();
+        private final List<Throwable> failures = new ArrayList<>();
+
+        private Partition() {
+        }
+
+        /**
+         * @return the values of the successes in encounter order, unmodifiable
+         */
+        public List<T> successes() {
+            return Collections.unmodifiableList(successes);
+        }
+
+        /**
+         * @return the exceptions of the failures in encounter order, unmodifiable
+         */
+        public List<Throwable> failures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        private void add(Try<? extends T> t) {
+            if (t.isSuccess()) successes.add(t.get());
+            else failures.add(Try.exceptionOf(t));
+        }
+
+        private Partition<T> addAll(Partition<T> other) {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition{successes=" + successes + ", failures=" + failures + '}';
+        }
+    }
+
+    /**
+     * Accumulator of {@link #toList()}; once it holds a failure it ignores further elements.
+     */
+    private static final class Values<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private Try<? extends T> failure;
+
+        private void add(Try<? extends T> t) {
+            if (failure != null) return;
+            if (t.isSuccess()) values.add(t.get());
+            else failure = t;
+        }
+
+        private Values<T> addAll(Values<T> right) {
+            if (failure == null) {
+                if (right.failure != null) failure = right.failure;
+                else values.addAll(right.values);
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Try<List<T>> result() {
+            if (failure != null) return (Try<List<T>>) (Try<?>) failure;
+            else return Try.Success(values);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package try_;
+
+import option.OptionDouble;
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+import utils.function.exceptional.DoubleConsumerEx;
+import utils.function.exceptional.DoubleFunctionEx;
+import utils.function.exceptional.DoublePredicateEx;
+import utils.function.exceptional.DoubleSupplierEx;
+import utils.function.exceptional.DoubleUnaryOperatorEx;
+import utils.function.exceptional.SupplierEx;
+import utils.function.exceptional.ToDoubleFunctionEx;
+
+/**
+ * The result of a computation of a {@code double}: either a success with the value or a
+ * failure with the exception the computation threw. This is the primitive
+ * specialization of {@link Try} for {@code double}: the value is kept unboxed, so
+ * {@link #asTry(DoubleSupplierEx)} and {@link #map(DoubleUnaryOperatorEx)} allocate only the
+ * result, never a box.
+ * <pre>{@code
+ *     TryDouble ratio = Try.asTry(() -> config.get("ratio")).mapToDouble(Double::parseDouble);
+ * }</pre>
+ * The combinators have the semantics of their {@code Try} counterparts: exceptions
+ * thrown by a function turn the result into a failure, fatal errors are rethrown, and
+ * the blocks are reported to the {@link TryMetrics} installed with
+ * {@link Try#setMetrics(TryMetrics)}.
+ *
+ * @see Try
+ * @since 18.10.26
+ */
+public final class TryDouble {
+
+    private final double value;
+    /**
+     * The exception of a failure, {@code null} for a success.
+     */
+    private final Throwable exception;
+
+    private TryDouble(double value, Throwable exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Runs {@code block} and returns its value as a success, or the exception it threw
+     * as a failure. Fatal errors are thrown.
+     */
+    public static TryDouble asTry(DoubleSupplierEx block) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return run(block);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.AS_TRY, start, run(block));
+    }
+
+    private static TryDouble run(DoubleSupplierEx block) {
+        try {
+            return Success(block.getAsDouble());
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public static TryDouble Success(double value) {
+        return new TryDouble(value, null);
+    }
+
+    public static TryDouble Failure(Throwable exception) {
+        if (exception == null) throw new NullPointerException("exception should not be null");
+        return new TryDouble(0d, exception);
+    }
+
+    /**
+     * Converts a boxed {@code Try} to its primitive specialization.
+     *
+     * @throws NullPointerException if {@code result} is a {@code Success} of {@code null}
+     */
+    public static TryDouble of(Try<? extends Double> result) {
+        if (result.isFailure()) return Failure(Try.exceptionOf(result));
+        else return Success(result.get());
+    }
+
+    /**
+     * {@link Try#map(FunctionEx)} of a boxed value to a {@code double}.
+     */
+    static <T> TryDouble map(T input, ToDoubleFunctionEx<? super T> f) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(input, f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.MAP, start, applyMap(input, f));
+    }
+
+    private static <T> TryDouble applyMap(T input, ToDoubleFunctionEx<? super T> f) {
+        try {
+            return Success(f.applyAsDouble(input));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value of a success, or throws the exception of a failure as is.
+     */
+    public double get() {
+        if (exception != null) Errors.throwAsUnchecked(exception);
+        return value;
+    }
+
+    /**
+     * Returns the value of a success, or the result of {@code def} for a failure; an
+     * exception thrown by {@code def} is rethrown.
+     */
+    public double getOrElse(DoubleSupplierEx def) {
+        if (exception == null) return value;
+        try {
+            return def.getAsDouble();
+        } catch (Exception e) {
+            Errors.throwAsUnchecked(e);
+            return 0;
+        }
+    }
+
+    /**
+     * Returns this success, or the result of {@code def} for a failure; an exception
+     * thrown by {@code def} is a failure.
+     */
+    public TryDouble orElse(SupplierEx<? extends TryDouble> def) {
+        if (exception == null) return this;
+        try {
+            return def.get();
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryDouble filter(DoublePredicateEx p) {
+        if (exception != null) return this;
+        try {
+            if (p.test(value)) return this;
+            else return Failure(Failures.predicateDoesNotHold(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryDouble map(DoubleUnaryOperatorEx f) {
+        if (exception != null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.MAP, start, applyMap(f));
+    }
+
+    private TryDouble applyMap(DoubleUnaryOperatorEx f) {
+        try {
+            return Success(f.applyAsDouble(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public <U> Try<U> mapToObj(DoubleFunctionEx<? extends U> f) {
+        if (exception != null) return Try.Failure(exception);
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMapToObj(f);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.MAP, start, applyMapToObj(f));
+    }
+
+    private <U> Try<U> applyMapToObj(DoubleFunctionEx<? extends U> f) {
+        try {
+            return Try.Success(f.apply(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Try.Failure(t);
+        }
+    }
+
+    public TryDouble flatMap(DoubleFunctionEx<? extends TryDouble> f) {
+        if (exception != null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyFlatMap(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.FLAT_MAP, start, applyFlatMap(f));
+    }
+
+    private TryDouble applyFlatMap(DoubleFunctionEx<? extends TryDouble> f) {
+        try {
+            return f.apply(value);
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * Passes the value of a success to {@code f}; an exception thrown by {@code f} is
+     * rethrown.
+     */
+    public void foreach(DoubleConsumerEx f) {
+        if (exception != null) return;
+        try {
+            f.accept(value);
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+        }
+    }
+
+    public TryDouble recover(ToDoubleFunctionEx<Throwable> f) {
+        if (exception == null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecover(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.RECOVER, start, applyRecover(f));
+    }
+
+    private TryDouble applyRecover(ToDoubleFunctionEx<Throwable> f) {
+        try {
+            return Success(f.applyAsDouble(exception));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryDouble recoverWith(FunctionEx<Throwable, ? extends TryDouble> f) {
+        if (exception == null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecoverWith(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.RECOVER_WITH, start, applyRecoverWith(f));
+    }
+
+    private TryDouble applyRecoverWith(FunctionEx<Throwable, ? extends TryDouble> f) {
+        try {
+            return f.apply(exception);
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * @see Try#fold(FunctionEx, FunctionEx)
+     */
+    public <U> U fold(FunctionEx<Throwable, ? extends U> onFailure, DoubleFunctionEx<? extends U> onSuccess) {
+        try {
+            if (exception == null) return onSuccess.apply(value);
+            else return onFailure.apply(exception);
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+            return null;
+        }
+    }
+
+    /**
+     * @return the value of a success, otherwise an empty {@code OptionDouble}
+     */
+    public OptionDouble toOption() {
+        if (exception == null) return OptionDouble.Some(value);
+        else return OptionDouble.None();
+    }
+
+    /**
+     * @return this result with the value boxed
+     */
+    public Try<Double> toTry() {
+        if (exception == null) return Try.Success(value);
+        else return Try.Failure(exception);
+    }
+
+    private static TryDouble record(TryMetrics metrics, TryMetrics.Operation operation, long start, TryDouble result) {
+        // flatMap and recoverWith pass on whatever their function returned
+        if (result != null) Instrumentation.record(metrics, operation, start, result.exception);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "Success{" + value + "}" : "Failure{" + exception + "}";
+    }
+
+    /**
+     * Successes are equal when their values are, failures when their exceptions have
+     * the same class, as for {@code Try}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TryDouble)) return false;
+
+        TryDouble other = (TryDouble) o;
+
+        if (exception == null) return other.exception == null && Double.compare(value, other.value) == 0;
+        else return other.exception != null && exception.getClass().equals(other.exception.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return exception == null ? Double.hashCode(value) : exception.getClass().hashCode();
+    }
+}
@@ -0,0 +1,197 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+import utils.function.exceptional.SupplierEx;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A lazily evaluated {@link Try} computation that runs in constant stack space.
+ * <p/>
+ * {@code Try.flatMap} runs its function at once, so a recursive chain such as
+ * {@code loop(n) = Success(n).flatMap(i -> loop(i - 1))} is as deep on the Java stack
+ * as it is long, and a deep enough one ends in a {@code StackOverflowError} which
+ * {@code Try} turns into an ordinary {@code Failure}. A {@code TryEval} only describes
+ * the chain; {@link #run()} then evaluates it in a loop that keeps the pending steps on
+ * an explicit stack, so chains of any depth, and recursion through
+ * {@link #defer(SupplierEx)}, never grow the Java stack:
+ * <pre>{@code
+ *     static TryEval<Long> sum(long n, long acc) {
+ *         if (n == 0) return TryEval.now(Success(acc));
+ *         return TryEval.defer(() -> sum(n - 1, acc + n));
+ *     }
+ *
+ *     Try<Long> total = sum(1_000_000, 0).run();
+ * }</pre>
+ * The evaluation carries the raw value or exception from step to step and allocates
+ * only the final {@code Success} or {@code Failure}. Each step has the semantics of the
+ * {@code Try} method with the same name: exceptions thrown by a step turn the result
+ * into a failure, fatal errors are rethrown.
+ * <p/>
+ * Instances are immutable; {@link #run()} evaluates the computation again on every call.
+ *
+ * @param <T> the type of the result value
+ * @since 18.10.26
+ */
+public final class TryEval<T> {
+
+    private static final int NOW = 0;
+    private static final int DELAY = 1;
+    private static final int DEFER = 2;
+    private static final int MAP = 3;
+    private static final int FLAT_MAP = 4;
+    private static final int RECOVER = 5;
+    private static final int RECOVER_WITH = 6;
+
+    private final int kind;
+    /**
+     * The {@code Try} of {@code NOW}, the supplier of {@code DELAY} and {@code DEFER},
+     * the function of the other kinds.
+     */
+    private final Object payload;
+    /**
+     * The computation a {@code MAP}, {@code FLAT_MAP}, {@code RECOVER} or
+     * {@code RECOVER_WITH} step applies to.
+     */
+    private final TryEval<?> source;
+
+    private TryEval(int kind, Object payload, TryEval<?> source) {
+        this.kind = kind;
+        this.payload = Objects.requireNonNull(payload);
+        this.source = source;
+    }
+
+    /**
+     * Returns a computation that results in {@code result}.
+     */
+    public static <T> TryEval<T> now(Try<T> result) {
+        return new TryEval<>(NOW, result, null);
+    }
+
+    /**
+     * Returns a computation that runs {@code block} as {@link Try#asTry(SupplierEx)} does.
+     */
+    public static <T> TryEval<T> of(SupplierEx<? extends T> block) {
+        return new TryEval<>(DELAY, block, null);
+    }
+
+    /**
+     * Returns a computation that continues with the computation returned by
+     * {@code next}; {@code next} is called only when the result is needed, which is
+     * what makes recursive definitions stack-safe.
+     */
+    public static <T> TryEval<T> defer(SupplierEx<? extends TryEval<T>> next) {
+        return new TryEval<>(DEFER, next, null);
+    }
+
+    /**
+     * @see Try#map(FunctionEx)
+     */
+    public <U> TryEval<U> map(FunctionEx<? super T, ? extends U> f) {
+        return new TryEval<>(MAP, f, this);
+    }
+
+    /**
+     * Same as {@link Try#flatMap(FunctionEx)}, with {@code f} returning a computation.
+     */
+    public <U> TryEval<U> flatMap(FunctionEx<? super T, ? extends TryEval<U>> f) {
+        return new TryEval<>(FLAT_MAP, f, this);
+    }
+
+    /**
+     * @see Try#recover(FunctionEx)
+     */
+    public TryEval<T> recover(FunctionEx<Throwable, ? extends T> f) {
+        return new TryEval<>(RECOVER, f, this);
+    }
+
+    /**
+     * Same as {@link Try#recoverWith(FunctionEx)}, with {@code f} returning a computation.
+     */
+    public TryEval<T> recoverWith(FunctionEx<Throwable, ? extends TryEval<T>> f) {
+        return new TryEval<>(RECOVER_WITH, f, this);
+    }
+
+    /**
+     * Evaluates the computation.
+     *
+     * @return the result of the computation
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> run() {
+        TryEval<?> current = this;
+        TryEval<?>[] steps = new TryEval<?>[16];
+        int size = 0;
+        Object value = null;
+        Throwable exception = null;
+        eval:
+        for (;;) {
+            while (current.kind >= MAP) {
+                if (size == steps.length) steps = Arrays.copyOf(steps, size << 1);
+                steps[size++] = current;
+                current = current.source;
+            }
+            try {
+                switch (current.kind) {
+                    case NOW:
+                        Try<Object> result = (Try<Object>) current.payload;
+                        if (result.isSuccess()) {
+                            value = result.get();
+                            exception = null;
+                        } else {
+                            value = null;
+                            exception = Try.exceptionOf(result);
+                        }
+                        break;
+                    case DELAY:
+                        value = ((SupplierEx<Object>) current.payload).get();
+                        exception = null;
+                        break;
+                    default:
+                        current = next(((SupplierEx<TryEval<?>>) current.payload).get());
+                        continue eval;
+                }
+            } catch (Throwable t) {
+                if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                value = null;
+                exception = t;
+            }
+            while (size > 0) {
+                TryEval<?> step = steps[--size];
+                steps[size] = null;
+                // recovery steps only apply to a failure, all the others only to a success
+                if ((exception == null) == (step.kind >= RECOVER)) continue;
+                try {
+                    switch (step.kind) {
+                        case MAP:
+                            value = ((FunctionEx<Object, Object>) step.payload).apply(value);
+                            break;
+                        case FLAT_MAP:
+                            current = next(((FunctionEx<Object, TryEval<?>>) step.payload).apply(value));
+                            continue eval;
+                        case RECOVER:
+                            value = ((FunctionEx<Throwable, Object>) step.payload).apply(exception);
+                            exception = null;
+                            break;
+                        default:
+                            current = next(((FunctionEx<Throwable, TryEval<?>>) step.payload).apply(exception));
+                            continue eval;
+                    }
+                } catch (Throwable t) {
+                    if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                    value = null;
+                    exception = t;
+                }
+            }
+            if (exception == null) return Try.Success((T) value);
+            else return Try.Failure(exception);
+        }
+    }
+
+    private static TryEval<?> next(TryEval<?> next) {
+        if (next == null) throw new NullPointerException("step returned null");
+        return next;
+    }
+}
@@ -0,0 +1,552 @@
+package try_;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import option.Option;
+import utils.control.Errors;
+import utils.function.exceptional.ConsumerEx;
+import utils.function.exceptional.FunctionEx;
+import utils.function.exceptional.PredicateEx;
+import utils.function.exceptional.SupplierEx;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import static try_.Try.Failure;
+import static try_.Try.Success;
+
+/**
+ * A placeholder for a {@link Try} that is not computed yet.
+ * <p/>
+ * A {@code TryFuture} is completed exactly once, either by the block passed to
+ * {@link #asTry(SupplierEx, Executor)} or explicitly through {@link #complete(Try)}
+ * on a {@link #promise()}. It offers the combinators of {@code Try}; each of them
+ * registers a callback and returns a new future immediately, so no thread is
+ * blocked while the result is pending. Callbacks run on the executor passed to the
+ * combinator or, if none is given, inline on the thread that completes the future
+ * (or on the calling thread when the future is already completed).
+ * <p/>
+ * Completion and callback registration are lock-free.
+ *
+ * @param <T> the type of the value
+ * @since 18.10.26
+ */
+public final class TryFuture<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TryFuture, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(TryFuture.class, Object.class, "state");
+
+    /**
+     * The {@code Try} once completed, otherwise the head of the stack of pending callbacks.
+     */
+    private volatile Object state;
+
+    private TryFuture() {
+    }
+
+    /**
+     * Returns a new future that is completed by the caller through {@link #complete(Try)},
+     * {@link #success(Object)} or {@link #failure(Throwable)}.
+     */
+    public static <T> TryFuture<T> promise() {
+        return new TryFuture<>();
+    }
+
+    /**
+     * Returns a future that is already completed with {@code result}.
+     */
+    public static <T> TryFuture<T> completed(Try<T> result) {
+        TryFuture<T> future = new TryFuture<>();
+        future.state = Objects.requireNonNull(result);
+        return future;
+    }
+
+    /**
+     * Returns a future that is already completed with {@code Success(value)}.
+     */
+    public static <T> TryFuture<T> successful(T value) {
+        return completed(Success(value));
+    }
+
+    /**
+     * Returns a future that is already completed with {@code Failure(exception)}.
+     */
+    public static <T> TryFuture<T> failed(Throwable exception) {
+        return completed(Try.<T>Failure(exception));
+    }
+
+    /**
+     * Runs {@code block} on {@code executor} and completes the returned future with
+     * its result, as {@link Try#asTry(SupplierEx)} would. Fatal errors complete the future
+     * with a {@code Failure} and are rethrown on the executor thread.
+     *
+     * @param block    the computation
+     * @param executor the executor to run the computation on
+     * @return a future of the computation result
+     */
+    public static <T> TryFuture<T> asTry(final SupplierEx<? extends T> block, Executor executor) {
+        final TryFuture<T> future = new TryFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(Try.<T>asTry(block));
+                } catch (Throwable t) {
+                    future.complete(Failure(t));
+                    Errors.throwAsUnchecked(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.complete(Failure(e));
+        }
+        return future;
+    }
+
+    /**
+     * Returns a future completed by {@code stage}. A {@code CompletionException} is
+     * unwrapped to its cause.
+     */
+    public static <T> TryFuture<T> fromCompletionStage(CompletionStage<? extends T> stage) {
+        final TryFuture<T> future = new TryFuture<>();
+        stage.whenComplete((value, exception) -> {
+            if (exception != null) {
+                future.complete(Failure(unwrap(exception)));
+                return;
+            }
+            try {
+                future.complete(Success(value));
+            } catch (Throwable t) {
+                // Success throws a Throwable value, which the stage would swallow
+                future.complete(Failure(t));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a future completed by a Guava {@code ListenableFuture}. An
+     * {@code ExecutionException} is unwrapped to its cause, and cancellation
+     * completes the future with a {@code CancellationException}.
+     */
+    public static <T> TryFuture<T> fromListenableFuture(final ListenableFuture<? extends T> listenable) {
+        final TryFuture<T> future = new TryFuture<>();
+        listenable.addListener(() -> {
+            try {
+                future.complete(Success(Uninterruptibles.getUninterruptibly(listenable)));
+            } catch (Throwable t) {
+                future.complete(Failure(unwrap(t)));
+            }
+        }, MoreExecutors.sameThreadExecutor());
+        return future;
+    }
+
+    /**
+     * Completes this future with {@code result} unless it is completed already.
+     *
+     * @return {@code true} if this call completed the future
+     */
+    @SuppressWarnings("unchecked")
+    public boolean complete(Try<T> result) {
+        Objects.requireNonNull(result);
+        for (;;) {
+            Object current = state;
+            if (current instanceof Try) return false;
+            if (STATE.compareAndSet(this, current, result)) {
+                fire((Callback<T>) current, result);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes this future with {@code Success(value)} unless it is completed already.
+     *
+     * @return {@code true} if this call completed the future
+     */
+    public boolean success(T value) {
+        return complete(Success(value));
+    }
+
+    /**
+     * Completes this future with {@code Failure(exception)} unless it is completed already.
+     *
+     * @return {@code true} if this call completed the future
+     */
+    public boolean failure(Throwable exception) {
+        return complete(Try.<T>Failure(exception));
+    }
+
+    public boolean isDone() {
+        return state instanceof Try;
+    }
+
+    /**
+     * Returns the result if this future is completed, otherwise {@code None}. Never blocks.
+     */
+    @SuppressWarnings("unchecked")
+    public Option<Try<T>> value() {
+        Object current = state;
+        if (current instanceof Try) return Option.Some((Try<T>) current);
+        else return Option.None();
+    }
+
+    /**
+     * Waits for this future to complete and returns its result.
+     *
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> get() throws InterruptedException {
+        Object current = state;
+        if (current instanceof Try) return (Try<T>) current;
+        await().await();
+        return (Try<T>) state;
+    }
+
+    /**
+     * Waits at most {@code timeout} for this future to complete and returns its result.
+     *
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws TimeoutException     if the future is not completed in time
+     */
+    @SuppressWarnings("unchecked")
+    public Try<T> get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        Object current = state;
+        if (current instanceof Try) return (Try<T>) current;
+        if (!await().await(timeout, unit)) throw new TimeoutException();
+        return (Try<T>) state;
+    }
+
+    /**
+     * Invokes {@code callback} with the result inline once this future is completed.
+     * Exceptions thrown by the callback are passed to the uncaught exception handler
+     * of the thread that runs it.
+     */
+    public void onComplete(ConsumerEx<? super Try<T>> callback) {
+        onComplete(callback, null);
+    }
+
+    /**
+     * Invokes {@code callback} with the result on {@code executor} once this future is
+     * completed.
+     *
+     * @see #onComplete(ConsumerEx)
+     */
+    public void onComplete(final ConsumerEx<? super Try<T>> callback, Executor executor) {
+        Objects.requireNonNull(callback);
+        register(new Callback<T>(executor) {
+            @Override
+            void apply(Try<T> result) {
+                try {
+                    callback.accept(result);
+                } catch (Throwable t) {
+                    report(t);
+                }
+            }
+
+            @Override
+            void rejected(RejectedExecutionException e) {
+                report(e);
+            }
+        });
+    }
+
+    public <U> TryFuture<U> map(FunctionEx<? super T, ? extends U> f) {
+        return map(f, null);
+    }
+
+    /**
+     * Future counterpart of {@link Try#map(FunctionEx)}; {@code f} runs on {@code executor}.
+     */
+    public <U> TryFuture<U> map(final FunctionEx<? super T, ? extends U> f, Executor executor) {
+        Objects.requireNonNull(f);
+        return then(result -> result.<U>map(f), executor);
+    }
+
+    public <U> TryFuture<U> flatMap(FunctionEx<? super T, ? extends TryFuture<U>> f) {
+        return flatMap(f, null);
+    }
+
+    /**
+     * Applies {@code f} on {@code executor} to the value of a successful result and
+     * completes with the future it returns; failures are passed through.
+     */
+    public <U> TryFuture<U> flatMap(final FunctionEx<? super T, ? extends TryFuture<U>> f, Executor executor) {
+        Objects.requireNonNull(f);
+        return thenWith(result -> {
+            if (result.isSuccess()) return f.apply(result.get());
+            else return completed(TryFuture.<U>castFailure(result));
+        }, executor);
+    }
+
+    public TryFuture<T> filter(PredicateEx<? super T> p) {
+        return filter(p, null);
+    }
+
+    /**
+     * Future counterpart of {@link Try#filter(PredicateEx)}; {@code p} runs on {@code executor}.
+     */
+    public TryFuture<T> filter(final PredicateEx<? super T> p, Executor executor) {
+        Objects.requireNonNull(p);
+        return then(result -> result.filter(p), executor);
+    }
+
+    public TryFuture<T> recover(FunctionEx<Throwable, ? extends T> f) {
+        return recover(f, null);
+    }
+
+    /**
+     * Future counterpart of {@link Try#recover(FunctionEx)}; {@code f} runs on {@code executor}.
+     */
+    public TryFuture<T> recover(final FunctionEx<Throwable, ? extends T> f, Executor executor) {
+        Objects.requireNonNull(f);
+        return then(result -> result.recover(f), executor);
+    }
+
+    public TryFuture<T> recoverWith(FunctionEx<Throwable, ? extends TryFuture<T>> f) {
+        return recoverWith(f, null);
+    }
+
+    /**
+     * Applies {@code f} on {@code executor} to the exception of a failed result and
+     * completes with the future it returns; successes are passed through.
+     */
+    public TryFuture<T> recoverWith(final FunctionEx<Throwable, ? extends TryFuture<T>> f, Executor executor) {
+        Objects.requireNonNull(f);
+        return thenWith(result -> {
+            if (result.isFailure()) return f.apply(Try.exceptionOf(result));
+            else return completed(result);
+        }, executor);
+    }
+
+    public <U> TryFuture<U> transform(FunctionEx<? super T, ? extends TryFuture<U>> s,
+                                      FunctionEx<Throwable, ? extends TryFuture<U>> f) {
+        return transform(s, f, null);
+    }
+
+    /**
+     * Completes with the future returned by {@code s} for a successful result or by
+     * {@code f} for a failed one; both run on {@code executor}.
+     */
+    public <U> TryFuture<U> transform(final FunctionEx<? super T, ? extends TryFuture<U>> s,
+                                      final FunctionEx<Throwable, ? extends TryFuture<U>> f,
+                                      Executor executor) {
+        Objects.requireNonNull(s);
+        Objects.requireNonNull(f);
+        return thenWith(result -> {
+            if (result.isSuccess()) return s.apply(result.get());
+            else return f.apply(Try.exceptionOf(result));
+        }, executor);
+    }
+
+    public TryFuture<T> orElse(SupplierEx<? extends TryFuture<T>> def) {
+        return orElse(def, null);
+    }
+
+    /**
+     * Completes with this result if it is a success, otherwise with the future
+     * returned by {@code def}, which runs on {@code executor}.
+     */
+    public TryFuture<T> orElse(final SupplierEx<? extends TryFuture<T>> def, Executor executor) {
+        Objects.requireNonNull(def);
+        return thenWith(result -> {
+            if (result.isSuccess()) return completed(result);
+            else return def.get();
+        }, executor);
+    }
+
+    /**
+     * Returns a {@code CompletableFuture} completed with the value or the exception of this future.
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        register(new Callback<T>(null) {
+            @Override
+            void apply(Try<T> result) {
+                if (result.isSuccess()) future.complete(result.get());
+                else future.completeExceptionally(Try.exceptionOf(result));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a Guava {@code ListenableFuture} completed with the value or the exception
+     * of this future.
+     */
+    public ListenableFuture<T> toListenableFuture() {
+        final SettableFuture<T> future = SettableFuture.create();
+        register(new Callback<T>(null) {
+            @Override
+            void apply(Try<T> result) {
+                if (result.isSuccess()) future.set(result.get());
+                else future.setException(Try.exceptionOf(result));
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        Object current = state;
+        if (current instanceof Try) return "TryFuture{" + current + '}';
+        else return "TryFuture{<not completed>}";
+    }
+
+    private <U> TryFuture<U> then(final FunctionEx<Try<T>, Try<U>> f, Executor executor) {
+        final TryFuture<U> next = new TryFuture<>();
+        register(new Callback<T>(executor) {
+            @Override
+            void apply(Try<T> result) {
+                try {
+                    next.complete(f.apply(result));
+                } catch (Throwable t) {
+                    next.complete(Failure(t));
+                    if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                }
+            }
+
+            @Override
+            void rejected(RejectedExecutionException e) {
+                next.complete(Failure(e));
+            }
+        });
+        return next;
+    }
+
+    private <U> TryFuture<U> thenWith(final FunctionEx<Try<T>, ? extends TryFuture<U>> f, Executor executor) {
+        final TryFuture<U> next = new TryFuture<>();
+        register(new Callback<T>(executor) {
+            @Override
+            void apply(Try<T> result) {
+                TryFuture<U> other;
+                try {
+                    other = Objects.requireNonNull(f.apply(result));
+                } catch (Throwable t) {
+                    next.complete(Failure(t));
+                    if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                    return;
+                }
+                other.register(new Callback<U>(null) {
+                    @Override
+                    void apply(Try<U> otherResult) {
+                        next.complete(otherResult);
+                    }
+                });
+            }
+
+            @Override
+            void rejected(RejectedExecutionException e) {
+                next.complete(Failure(e));
+            }
+        });
+        return next;
+    }
+
+    private CountDownLatch await() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        register(new Callback<T>(null) {
+            @Override
+            void apply(Try<T> result) {
+                latch.countDown();
+            }
+        });
+        return latch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void register(Callback<T> callback) {
+        for (;;) {
+            Object current = state;
+            if (current instanceof Try) {
+                callback.dispatch((Try<T>) current);
+                return;
+            }
+            callback.next = (Callback<T>) current;
+            if (STATE.compareAndSet(this, current, callback)) return;
+        }
+    }
+
+    private static <T> void fire(Callback<T> head, Try<T> result) {
+        Callback<T> reversed = null;
+        while (head != null) {
+            Callback<T> next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        while (reversed != null) {
+            Callback<T> next = reversed.next;
+            reversed.next = null;
+            reversed.dispatch(result);
+            reversed = next;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <U> Try<U> castFailure(Try<?> failure) {
+        return (Try<U>) failure;
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        if ((t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null) {
+            return t.getCause();
+        }
+        return t;
+    }
+
+    private static void report(Throwable t) {
+        if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+    }
+
+    /**
+     * Node of the stack of pending callbacks.
+     */
+    private abstract static class Callback<T> implements Runnable {
+
+        private final Executor executor;
+        private Callback<T> next;
+        private Try<T> result;
+
+        Callback(Executor executor) {
+            this.executor = executor;
+        }
+
+        abstract void apply(Try<T> result);
+
+        void rejected(RejectedExecutionException e) {
+            throw e;
+        }
+
+        final void dispatch(Try<T> result) {
+            if (executor == null) {
+                apply(result);
+                return;
+            }
+            this.result = result;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                rejected(e);
+            }
+        }
+
+        @Override
+        public final void run() {
+            apply(result);
+        }
+    }
+}
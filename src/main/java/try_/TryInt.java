@@ -0,0 +1,314 @@
+package try_;
+
+import option.OptionInt;
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+import utils.function.exceptional.IntConsumerEx;
+import utils.function.exceptional.IntFunctionEx;
+import utils.function.exceptional.IntPredicateEx;
+import utils.function.exceptional.IntSupplierEx;
+import utils.function.exceptional.IntUnaryOperatorEx;
+import utils.function.exceptional.SupplierEx;
+import utils.function.exceptional.ToIntFunctionEx;
+
+/**
+ * The result of a computation of an {@code int}: either a success with the value or a
+ * failure with the exception the computation threw. This is the primitive
+ * specialization of {@link Try} for {@code int}: the value is kept unboxed, so
+ * {@link #asTry(IntSupplierEx)} and {@link #map(IntUnaryOperatorEx)} allocate only the
+ * result, never a box.
+ * <pre>{@code
+ *     TryInt port = Try.asTry(() -> config.get("port")).mapToInt(Integer::parseInt);
+ * }</pre>
+ * The combinators have the semantics of their {@code Try} counterparts: exceptions
+ * thrown by a function turn the result into a failure, fatal errors are rethrown, and
+ * the blocks are reported to the {@link TryMetrics} installed with
+ * {@link Try#setMetrics(TryMetrics)}.
+ *
+ * @see Try
+ * @since 18.10.26
+ */
+public final class TryInt {
+
+    private final int value;
+    /**
+     * The exception of a failure, {@code null} for a success.
+     */
+    private final Throwable exception;
+
+    private TryInt(int value, Throwable exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Runs {@code block} and returns its value as a success, or the exception it threw
+     * as a failure. Fatal errors are thrown.
+     */
+    public static TryInt asTry(IntSupplierEx block) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return run(block);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.AS_TRY, start, run(block));
+    }
+
+    private static TryInt run(IntSupplierEx block) {
+        try {
+            return Success(block.getAsInt());
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public static TryInt Success(int value) {
+        return new TryInt(value, null);
+    }
+
+    public static TryInt Failure(Throwable exception) {
+        if (exception == null) throw new NullPointerException("exception should not be null");
+        return new TryInt(0, exception);
+    }
+
+    /**
+     * Converts a boxed {@code Try} to its primitive specialization.
+     *
+     * @throws NullPointerException if {@code result} is a {@code Success} of {@code null}
+     */
+    public static TryInt of(Try<? extends Integer> result) {
+        if (result.isFailure()) return Failure(Try.exceptionOf(result));
+        else return Success(result.get());
+    }
+
+    /**
+     * {@link Try#map(FunctionEx)} of a boxed value to an {@code int}.
+     */
+    static <T> TryInt map(T input, ToIntFunctionEx<? super T> f) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(input, f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.MAP, start, applyMap(input, f));
+    }
+
+    private static <T> TryInt applyMap(T input, ToIntFunctionEx<? super T> f) {
+        try {
+            return Success(f.applyAsInt(input));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value of a success, or throws the exception of a failure as is.
+     */
+    public int get() {
+        if (exception != null) Errors.throwAsUnchecked(exception);
+        return value;
+    }
+
+    /**
+     * Returns the value of a success, or the result of {@code def} for a failure; an
+     * exception thrown by {@code def} is rethrown.
+     */
+    public int getOrElse(IntSupplierEx def) {
+        if (exception == null) return value;
+        try {
+            return def.getAsInt();
+        } catch (Exception e) {
+            Errors.throwAsUnchecked(e);
+            return 0;
+        }
+    }
+
+    /**
+     * Returns this success, or the result of {@code def} for a failure; an exception
+     * thrown by {@code def} is a failure.
+     */
+    public TryInt orElse(SupplierEx<? extends TryInt> def) {
+        if (exception == null) return this;
+        try {
+            return def.get();
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryInt filter(IntPredicateEx p) {
+        if (exception != null) return this;
+        try {
+            if (p.test(value)) return this;
+            else return Failure(Failures.predicateDoesNotHold(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryInt map(IntUnaryOperatorEx f) {
+        if (exception != null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.MAP, start, applyMap(f));
+    }
+
+    private TryInt applyMap(IntUnaryOperatorEx f) {
+        try {
+            return Success(f.applyAsInt(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public <U> Try<U> mapToObj(IntFunctionEx<? extends U> f) {
+        if (exception != null) return Try.Failure(exception);
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMapToObj(f);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.MAP, start, applyMapToObj(f));
+    }
+
+    private <U> Try<U> applyMapToObj(IntFunctionEx<? extends U> f) {
+        try {
+            return Try.Success(f.apply(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Try.Failure(t);
+        }
+    }
+
+    public TryInt flatMap(IntFunctionEx<? extends TryInt> f) {
+        if (exception != null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyFlatMap(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.FLAT_MAP, start, applyFlatMap(f));
+    }
+
+    private TryInt applyFlatMap(IntFunctionEx<? extends TryInt> f) {
+        try {
+            return f.apply(value);
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * Passes the value of a success to {@code f}; an exception thrown by {@code f} is
+     * rethrown.
+     */
+    public void foreach(IntConsumerEx f) {
+        if (exception != null) return;
+        try {
+            f.accept(value);
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+        }
+    }
+
+    public TryInt recover(ToIntFunctionEx<Throwable> f) {
+        if (exception == null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecover(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.RECOVER, start, applyRecover(f));
+    }
+
+    private TryInt applyRecover(ToIntFunctionEx<Throwable> f) {
+        try {
+            return Success(f.applyAsInt(exception));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryInt recoverWith(FunctionEx<Throwable, ? extends TryInt> f) {
+        if (exception == null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecoverWith(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.RECOVER_WITH, start, applyRecoverWith(f));
+    }
+
+    private TryInt applyRecoverWith(FunctionEx<Throwable, ? extends TryInt> f) {
+        try {
+            return f.apply(exception);
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * @see Try#fold(FunctionEx, FunctionEx)
+     */
+    public <U> U fold(FunctionEx<Throwable, ? extends U> onFailure, IntFunctionEx<? extends U> onSuccess) {
+        try {
+            if (exception == null) return onSuccess.apply(value);
+            else return onFailure.apply(exception);
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+            return null;
+        }
+    }
+
+    /**
+     * @return the value of a success, otherwise an empty {@code OptionInt}
+     */
+    public OptionInt toOption() {
+        if (exception == null) return OptionInt.Some(value);
+        else return OptionInt.None();
+    }
+
+    /**
+     * @return this result with the value boxed
+     */
+    public Try<Integer> toTry() {
+        if (exception == null) return Try.Success(value);
+        else return Try.Failure(exception);
+    }
+
+    private static TryInt record(TryMetrics metrics, TryMetrics.Operation operation, long start, TryInt result) {
+        // flatMap and recoverWith pass on whatever their function returned
+        if (result != null) Instrumentation.record(metrics, operation, start, result.exception);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "Success{" + value + "}" : "Failure{" + exception + "}";
+    }
+
+    /**
+     * Successes are equal when their values are, failures when their exceptions have
+     * the same class, as for {@code Try}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TryInt)) return false;
+
+        TryInt other = (TryInt) o;
+
+        if (exception == null) return other.exception == null && value == other.value;
+        else return other.exception != null && exception.getClass().equals(other.exception.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return exception == null ? Integer.hashCode(value) : exception.getClass().hashCode();
+    }
+}
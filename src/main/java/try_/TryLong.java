@@ -0,0 +1,314 @@
+package try_;
+
+import option.OptionLong;
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+import utils.function.exceptional.LongConsumerEx;
+import utils.function.exceptional.LongFunctionEx;
+import utils.function.exceptional.LongPredicateEx;
+import utils.function.exceptional.LongSupplierEx;
+import utils.function.exceptional.LongUnaryOperatorEx;
+import utils.function.exceptional.SupplierEx;
+import utils.function.exceptional.ToLongFunctionEx;
+
+/**
+ * The result of a computation of a {@code long}: either a success with the value or a
+ * failure with the exception the computation threw. This is the primitive
+ * specialization of {@link Try} for {@code long}: the value is kept unboxed, so
+ * {@link #asTry(LongSupplierEx)} and {@link #map(LongUnaryOperatorEx)} allocate only the
+ * result, never a box.
+ * <pre>{@code
+ *     TryLong length = Try.asTry(() -> headers.get("Content-Length")).mapToLong(Long::parseLong);
+ * }</pre>
+ * The combinators have the semantics of their {@code Try} counterparts: exceptions
+ * thrown by a function turn the result into a failure, fatal errors are rethrown, and
+ * the blocks are reported to the {@link TryMetrics} installed with
+ * {@link Try#setMetrics(TryMetrics)}.
+ *
+ * @see Try
+ * @since 18.10.26
+ */
+public final class TryLong {
+
+    private final long value;
+    /**
+     * The exception of a failure, {@code null} for a success.
+     */
+    private final Throwable exception;
+
+    private TryLong(long value, Throwable exception) {
+        this.value = value;
+        this.exception = exception;
+    }
+
+    /**
+     * Runs {@code block} and returns its value as a success, or the exception it threw
+     * as a failure. Fatal errors are thrown.
+     */
+    public static TryLong asTry(LongSupplierEx block) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return run(block);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.AS_TRY, start, run(block));
+    }
+
+    private static TryLong run(LongSupplierEx block) {
+        try {
+            return Success(block.getAsLong());
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public static TryLong Success(long value) {
+        return new TryLong(value, null);
+    }
+
+    public static TryLong Failure(Throwable exception) {
+        if (exception == null) throw new NullPointerException("exception should not be null");
+        return new TryLong(0L, exception);
+    }
+
+    /**
+     * Converts a boxed {@code Try} to its primitive specialization.
+     *
+     * @throws NullPointerException if {@code result} is a {@code Success} of {@code null}
+     */
+    public static TryLong of(Try<? extends Long> result) {
+        if (result.isFailure()) return Failure(Try.exceptionOf(result));
+        else return Success(result.get());
+    }
+
+    /**
+     * {@link Try#map(FunctionEx)} of a boxed value to a {@code long}.
+     */
+    static <T> TryLong map(T input, ToLongFunctionEx<? super T> f) {
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(input, f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.MAP, start, applyMap(input, f));
+    }
+
+    private static <T> TryLong applyMap(T input, ToLongFunctionEx<? super T> f) {
+        try {
+            return Success(f.applyAsLong(input));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    /**
+     * Returns the value of a success, or throws the exception of a failure as is.
+     */
+    public long get() {
+        if (exception != null) Errors.throwAsUnchecked(exception);
+        return value;
+    }
+
+    /**
+     * Returns the value of a success, or the result of {@code def} for a failure; an
+     * exception thrown by {@code def} is rethrown.
+     */
+    public long getOrElse(LongSupplierEx def) {
+        if (exception == null) return value;
+        try {
+            return def.getAsLong();
+        } catch (Exception e) {
+            Errors.throwAsUnchecked(e);
+            return 0;
+        }
+    }
+
+    /**
+     * Returns this success, or the result of {@code def} for a failure; an exception
+     * thrown by {@code def} is a failure.
+     */
+    public TryLong orElse(SupplierEx<? extends TryLong> def) {
+        if (exception == null) return this;
+        try {
+            return def.get();
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryLong filter(LongPredicateEx p) {
+        if (exception != null) return this;
+        try {
+            if (p.test(value)) return this;
+            else return Failure(Failures.predicateDoesNotHold(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryLong map(LongUnaryOperatorEx f) {
+        if (exception != null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMap(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.MAP, start, applyMap(f));
+    }
+
+    private TryLong applyMap(LongUnaryOperatorEx f) {
+        try {
+            return Success(f.applyAsLong(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public <U> Try<U> mapToObj(LongFunctionEx<? extends U> f) {
+        if (exception != null) return Try.Failure(exception);
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyMapToObj(f);
+        long start = System.nanoTime();
+        return Instrumentation.record(metrics, TryMetrics.Operation.MAP, start, applyMapToObj(f));
+    }
+
+    private <U> Try<U> applyMapToObj(LongFunctionEx<? extends U> f) {
+        try {
+            return Try.Success(f.apply(value));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Try.Failure(t);
+        }
+    }
+
+    public TryLong flatMap(LongFunctionEx<? extends TryLong> f) {
+        if (exception != null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyFlatMap(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.FLAT_MAP, start, applyFlatMap(f));
+    }
+
+    private TryLong applyFlatMap(LongFunctionEx<? extends TryLong> f) {
+        try {
+            return f.apply(value);
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * Passes the value of a success to {@code f}; an exception thrown by {@code f} is
+     * rethrown.
+     */
+    public void foreach(LongConsumerEx f) {
+        if (exception != null) return;
+        try {
+            f.accept(value);
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+        }
+    }
+
+    public TryLong recover(ToLongFunctionEx<Throwable> f) {
+        if (exception == null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecover(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.RECOVER, start, applyRecover(f));
+    }
+
+    private TryLong applyRecover(ToLongFunctionEx<Throwable> f) {
+        try {
+            return Success(f.applyAsLong(exception));
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    public TryLong recoverWith(FunctionEx<Throwable, ? extends TryLong> f) {
+        if (exception == null) return this;
+        TryMetrics metrics = Instrumentation.metrics;
+        if (metrics == null) return applyRecoverWith(f);
+        long start = System.nanoTime();
+        return record(metrics, TryMetrics.Operation.RECOVER_WITH, start, applyRecoverWith(f));
+    }
+
+    private TryLong applyRecoverWith(FunctionEx<Throwable, ? extends TryLong> f) {
+        try {
+            return f.apply(exception);
+        } catch (Throwable t) {
+            if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+            return Failure(t);
+        }
+    }
+
+    /**
+     * @see Try#fold(FunctionEx, FunctionEx)
+     */
+    public <U> U fold(FunctionEx<Throwable, ? extends U> onFailure, LongFunctionEx<? extends U> onSuccess) {
+        try {
+            if (exception == null) return onSuccess.apply(value);
+            else return onFailure.apply(exception);
+        } catch (Throwable t) {
+            Errors.throwAsUnchecked(t);
+            return null;
+        }
+    }
+
+    /**
+     * @return the value of a success, otherwise an empty {@code OptionLong}
+     */
+    public OptionLong toOption() {
+        if (exception == null) return OptionLong.Some(value);
+        else return OptionLong.None();
+    }
+
+    /**
+     * @return this result with the value boxed
+     */
+    public Try<Long> toTry() {
+        if (exception == null) return Try.Success(value);
+        else return Try.Failure(exception);
+    }
+
+    private static TryLong record(TryMetrics metrics, TryMetrics.Operation operation, long start, TryLong result) {
+        // flatMap and recoverWith pass on whatever their function returned
+        if (result != null) Instrumentation.record(metrics, operation, start, result.exception);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return exception == null ? "Success{" + value + "}" : "Failure{" + exception + "}";
+    }
+
+    /**
+     * Successes are equal when their values are, failures when their exceptions have
+     * the same class, as for {@code Try}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TryLong)) return false;
+
+        TryLong other = (TryLong) o;
+
+        if (exception == null) return other.exception == null && value == other.value;
+        else return other.exception != null && exception.getClass().equals(other.exception.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return exception == null ? Long.hashCode(value) : exception.getClass().hashCode();
+    }
+}
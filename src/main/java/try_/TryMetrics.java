@@ -0,0 +1,60 @@
+package try_;
+
+import java.util.Objects;
+
+/**
+ * Listener of the blocks run by {@code Try}: {@link Try#asTry(utils.function.exceptional.SupplierEx)} and the
+ * functions of {@code map}, {@code flatMap}, {@code recover} and {@code recoverWith}.
+ * <p/>
+ * Installed with {@link Try#setMetrics(TryMetrics)}. While no listener is installed the
+ * only cost is a null check on a static field; with a listener each block is timed with
+ * {@link System#nanoTime()}. Fatal errors are thrown without being reported, and
+ * combinators that run no function, e.g. {@code map} on a {@code Failure}, report
+ * nothing. Listeners are called on the thread that ran the block and should be fast
+ * and thread-safe; {@link TryStats} is the ready-made one.
+ *
+ * @see TryStats
+ * @see JfrTryMetrics
+ * @since 18.10.26
+ */
+public interface TryMetrics {
+
+    enum Operation {
+        AS_TRY, MAP, FLAT_MAP, RECOVER, RECOVER_WITH
+    }
+
+    /**
+     * Called after a block of {@code operation} succeeded.
+     *
+     * @param nanos how long the block ran
+     */
+    void onSuccess(Operation operation, long nanos);
+
+    /**
+     * Called after a block of {@code operation} failed with {@code failure}.
+     *
+     * @param nanos how long the block ran
+     */
+    void onFailure(Operation operation, Throwable failure, long nanos);
+
+    /**
+     * Returns a listener that reports to this listener and then to {@code other}.
+     */
+    default TryMetrics andThen(final TryMetrics other) {
+        Objects.requireNonNull(other);
+        final TryMetrics first = this;
+        return new TryMetrics() {
+            @Override
+            public void onSuccess(Operation operation, long nanos) {
+                first.onSuccess(operation, nanos);
+                other.onSuccess(operation, nanos);
+            }
+
+            @Override
+            public void onFailure(Operation operation, Throwable failure, long nanos) {
+                first.onFailure(operation, failure, nanos);
+                other.onFailure(operation, failure, nanos);
+            }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package try_;
+
+import utils.control.Errors;
+import utils.function.exceptional.FunctionEx;
+import utils.function.exceptional.PredicateEx;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reusable chain of {@code map}, {@code filter}, {@code flatMap}, {@code recover} and
+ * {@code recoverWith} steps over {@link Try}.
+ * <p/>
+ * The chain is recorded once and then applied to many inputs. Applying it runs all
+ * steps in a single pass, carrying either the raw value or the exception between them,
+ * and allocates only the final {@code Success} or {@code Failure}; the equivalent chain
+ * of {@code Try} calls creates an intermediate {@code Try} (and a closure for
+ * {@code map}) per step. Each step has the semantics of the {@code Try} method with
+ * the same name: exceptions thrown by a step turn the result into a failure, fatal
+ * errors are rethrown, a {@code map} or {@code recover} step returning a
+ * {@code Throwable} fails with it, and a {@code flatMap} or {@code recoverWith} step
+ * returning {@code null} ends the chain as the {@code Try} call would.
+ * <pre>{@code
+ *     static final TryPipeline<String, Integer> PARSE = Try.<String>pipeline()
+ *             .map(String::trim)
+ *             .map(Integer::valueOf)
+ *             .filter(n -> n >= 0)
+ *             .recover(t -> 0);
+ * }</pre>
+ * <p/>
+ * Pipelines are immutable and can be shared between threads.
+ *
+ * @param <T> the type of the input value
+ * @param <R> the type of the result value
+ * @see Try#pipeline()
+ * @since 18.10.26
+ */
+public final class TryPipeline<T, R> {
+
+    private static final int MAP = 0;
+    private static final int FILTER = 1;
+    private static final int FLAT_MAP = 2;
+    private static final int RECOVER = 3;
+    private static final int RECOVER_WITH = 4;
+
+    private static final TryPipeline<?, ?> IDENTITY = new TryPipeline<>(new int[0], new Object[0]);
+
+    private final int[] kinds;
+    private final Object[] functions;
+
+    private TryPipeline(int[] kinds, Object[] functions) {
+        this.kinds = kinds;
+        this.functions = functions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> TryPipeline<T, T> identity() {
+        return (TryPipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * @see Try#map(FunctionEx)
+     */
+    public <U> TryPipeline<T, U> map(FunctionEx<? super R, ? extends U> f) {
+        return append(MAP, f);
+    }
+
+    /**
+     * @see Try#filter(PredicateEx)
+     */
+    public TryPipeline<T, R> filter(PredicateEx<? super R> p) {
+        return append(FILTER, p);
+    }
+
+    /**
+     * @see Try#flatMap(FunctionEx)
+     */
+    public <U> TryPipeline<T, U> flatMap(FunctionEx<? super R, ? extends Try<U>> f) {
+        return append(FLAT_MAP, f);
+    }
+
+    /**
+     * @see Try#recover(FunctionEx)
+     */
+    public TryPipeline<T, R> recover(FunctionEx<Throwable, ? extends R> f) {
+        return append(RECOVER, f);
+    }
+
+    /**
+     * @see Try#recoverWith(FunctionEx)
+     */
+    public TryPipeline<T, R> recoverWith(FunctionEx<Throwable, ? extends Try<R>> f) {
+        return append(RECOVER_WITH, f);
+    }
+
+    /**
+     * Runs the pipeline on {@code Success(value)}.
+     */
+    public Try<R> apply(T value) {
+        return run(value, null);
+    }
+
+    /**
+     * Runs the pipeline on {@code input}. Steps before the first recovery step are
+     * skipped for a {@code Failure}.
+     */
+    public Try<R> apply(Try<? extends T> input) {
+        if (input.isSuccess()) return run(input.get(), null);
+        else return run(null, Try.exceptionOf(input));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Try<R> run(Object value, Throwable exception) {
+        int i = 0;
+        steps:
+        for (; i < kinds.length; i++) {
+            int kind = kinds[i];
+            // recovery steps only apply to a failure, all the others only to a success
+            if ((exception == null) == (kind >= RECOVER)) continue;
+            try {
+                switch (kind) {
+                    case MAP:
+                        value = ((FunctionEx<Object, Object>) functions[i]).apply(value);
+                        // Try.Success throws a Throwable value
+                        if (value instanceof Throwable) throw (Throwable) value;
+                        break;
+                    case FILTER:
+                        if (!((PredicateEx<Object>) functions[i]).test(value)) {
+                            exception = Failures.predicateDoesNotHold(value);
+                            value = null;
+                        }
+                        break;
+                    case FLAT_MAP:
+                        Try<Object> next = ((FunctionEx<Object, Try<Object>>) functions[i]).apply(value);
+                        if (next == null) break steps;
+                        if (next.isSuccess()) value = next.get();
+                        else {
+                            exception = Try.exceptionOf(next);
+                            value = null;
+                        }
+                        break;
+                    case RECOVER:
+                        value = ((FunctionEx<Throwable, Object>) functions[i]).apply(exception);
+                        if (value instanceof Throwable) throw (Throwable) value;
+                        exception = null;
+                        break;
+                    default:
+                        Try<Object> rescued = ((FunctionEx<Throwable, Try<Object>>) functions[i]).apply(exception);
+                        if (rescued == null) break steps;
+                        if (rescued.isSuccess()) {
+                            value = rescued.get();
+                            exception = null;
+                        } else exception = Try.exceptionOf(rescued);
+                }
+            } catch (Throwable t) {
+                if (Errors.isFatal(t)) Errors.throwAsUnchecked(t);
+                exception = t;
+                value = null;
+            }
+        }
+        if (i < kinds.length) {
+            // flatMap and recoverWith return a null Try as is, the next call of the chain fails on it
+            if (i == kinds.length - 1) return null;
+            throw new NullPointerException("step " + i + " returned a null Try");
+        }
+        if (exception == null) return Try.Success((R) value);
+        else return Try.Failure(exception);
+    }
+
+    private <U> TryPipeline<T, U> append(int kind, Object function) {
+        Objects.requireNonNull(function);
+        int[] newKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        Object[] newFunctions = Arrays.copyOf(functions, functions.length + 1);
+        newKinds[kinds.length] = kind;
+        newFunctions[functions.length] = function;
+        return new TryPipeline<>(newKinds, newFunctions);
+    }
+}
@@ -0,0 +1,155 @@
+package try_;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TryMetrics} that counts successes and failures per operation, failures per
+ * exception class, and keeps a latency histogram per operation.
+ * <p/>
+ * Every counter is a {@code LongAdder}, so threads recording at the same time do not
+ * contend on one cache line. The histogram has logarithmic buckets, four per power of
+ * two, so a reported percentile is within 25% above the true value over the whole
+ * range of {@code long} nanoseconds at a fixed memory cost.
+ * <pre>{@code
+ *     TryStats stats = new TryStats();
+ *     Try.setMetrics(stats);
+ *     ...
+ *     long p99 = stats.latencyPercentile(TryMetrics.Operation.AS_TRY, 99);
+ *     Map<Class<? extends Throwable>, Long> causes = stats.failuresByException();
+ * }</pre>
+ *
+ * @since 18.10.26
+ */
+public final class TryStats implements TryMetrics {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final Counters[] counters = new Counters[Operation.values().length];
+    private final ConcurrentMap<Class<? extends Throwable>, LongAdder> byException = new ConcurrentHashMap<>();
+
+    public TryStats() {
+        for (int i = 0; i < counters.length; i++) counters[i] = new Counters();
+    }
+
+    @Override
+    public void onSuccess(Operation operation, long nanos) {
+        Counters c = counters[operation.ordinal()];
+        c.successes.increment();
+        c.latency[bucket(nanos)].increment();
+    }
+
+    @Override
+    public void onFailure(Operation operation, Throwable failure, long nanos) {
+        Counters c = counters[operation.ordinal()];
+        c.failures.increment();
+        c.latency[bucket(nanos)].increment();
+        Class<? extends Throwable> type = failure.getClass();
+        LongAdder count = byException.get(type);
+        if (count == null) count = byException.computeIfAbsent(type, k -> new LongAdder());
+        count.increment();
+    }
+
+    public long successes(Operation operation) {
+        return counters[operation.ordinal()].successes.sum();
+    }
+
+    public long failures(Operation operation) {
+        return counters[operation.ordinal()].failures.sum();
+    }
+
+    /**
+     * @return a snapshot of the number of failures per exception class
+     */
+    public Map<Class<? extends Throwable>, Long> failuresByException() {
+        Map<Class<? extends Throwable>, Long> snapshot = new HashMap<>();
+        for (Map.Entry<Class<? extends Throwable>, LongAdder> e : byException.entrySet()) {
+            snapshot.put(e.getKey(), e.getValue().sum());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Returns an upper bound of the {@code percentile}-th percentile of the running time
+     * of the blocks of {@code operation}, in nanoseconds, or 0 if none was recorded.
+     *
+     * @param percentile between 0 and 100
+     */
+    public long latencyPercentile(Operation operation, double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile should be within [0, 100]: " + percentile);
+        }
+        LongAdder[] latency = counters[operation.ordinal()].latency;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += counts[i] = latency[i].sum();
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Sets all counters to zero; not atomic with respect to concurrent recording.
+     */
+    public void reset() {
+        for (Counters c : counters) c.reset();
+        byException.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TryStats{");
+        for (Operation operation : Operation.values()) {
+            sb.append(operation).append("={successes=").append(successes(operation))
+                    .append(", failures=").append(failures(operation)).append("}, ");
+        }
+        return sb.append("byException=").append(failuresByException()).append('}').toString();
+    }
+
+    /**
+     * Values below {@code SUB_BUCKETS} get a bucket each; above, each power of two is
+     * split into {@code SUB_BUCKETS} equal buckets.
+     */
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) return nanos <= 0 ? 0 : (int) nanos;
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+
+    private static final class Counters {
+
+        final LongAdder successes = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder[] latency = new LongAdder[BUCKETS];
+
+        Counters() {
+            for (int i = 0; i < BUCKETS; i++) latency[i] = new LongAdder();
+        }
+
+        void reset() {
+            successes.reset();
+            failures.reset();
+            for (LongAdder bucket : latency) bucket.reset();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package utils.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values of one type to a {@code ByteBuffer} and reads them back, at the
+ * buffer's position and in the buffer's byte order.
+ * <p/>
+ * Implementations write straight into the buffer, without an intermediate array, so a
+ * direct or memory-mapped buffer receives the encoded bytes with no extra copy. A
+ * buffer that is too small makes {@link #write} throw {@code BufferOverflowException}
+ * with the position left anywhere after the initial one.
+ *
+ * @param <T> the type of the values
+ * @see ValueCodecs
+ * @since 18.10.26
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Writes {@code value} at the position of {@code buffer} and advances it.
+     *
+     * @throws java.nio.BufferOverflowException if {@code buffer} has not enough room left
+     */
+    void write(T value, ByteBuffer buffer);
+
+    /**
+     * Reads a value written by {@link #write} at the position of {@code buffer} and
+     * advances it past the value.
+     *
+     * @throws java.nio.BufferUnderflowException if {@code buffer} ends before the value
+     * @throws IllegalArgumentException          if the bytes do not hold a value of this codec
+     */
+    T read(ByteBuffer buffer);
+}
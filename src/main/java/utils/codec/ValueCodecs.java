@@ -0,0 +1,135 @@
+package utils.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ValueCodec}s of the common value types.
+ * <p/>
+ * Numbers take their fixed size. Strings, which may be {@code null}, are an {@code int}
+ * byte length, -1 for {@code null}, followed by their UTF-8 encoding, produced
+ * character by character into the buffer; unpaired surrogates are written as
+ * {@code '?'}, as {@code String.getBytes} does.
+ *
+ * @since 18.10.26
+ */
+public final class ValueCodecs {
+
+    public static final ValueCodec<Integer> INT = new ValueCodec<Integer>() {
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    public static final ValueCodec<Long> LONG = new ValueCodec<Long>() {
+        @Override
+        public void write(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    public static final ValueCodec<Double> DOUBLE = new ValueCodec<Double>() {
+        @Override
+        public void write(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    public static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<Boolean>() {
+        @Override
+        public void write(Boolean value, ByteBuffer buffer) {
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        @Override
+        public Boolean read(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+    };
+
+    public static final ValueCodec<String> STRING = new ValueCodec<String>() {
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            writeString(value, buffer);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            return readString(buffer);
+        }
+    };
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Writes {@code value}, which may be {@code null}, as {@link #STRING} does.
+     */
+    public static void writeString(String value, ByteBuffer buffer) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        int start = buffer.position();
+        buffer.putInt(0);
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xc0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3f));
+            } else if (!Character.isSurrogate(c)) {
+                buffer.put((byte) (0xe0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3f));
+                buffer.put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xf0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3f));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3f));
+                buffer.put((byte) (0x80 | codePoint & 0x3f));
+            } else {
+                buffer.put((byte) '?');
+            }
+        }
+        buffer.putInt(start, buffer.position() - start - 4);
+    }
+
+    /**
+     * Reads a string, or {@code null}, written by {@link #writeString(String, ByteBuffer)}.
+     */
+    public static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) return null;
+        if (length < 0) throw new IllegalArgumentException("invalid string length: " + length);
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+}
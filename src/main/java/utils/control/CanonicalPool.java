@@ -0,0 +1,105 @@
+package utils.control;
+
+import utils.function.Function;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared instances of a value wrapper, such as {@code Some} or {@code Success}, for the
+ * values an application wraps over and over, in the spirit of {@code Integer.valueOf}.
+ * <p/>
+ * {@link #canonical(Object)} covers a fixed set of values without any registration:
+ * {@code Boolean.TRUE} and {@code Boolean.FALSE}, the cached boxes of {@code Integer}
+ * and {@code Long} in {@code [-128, 127]}, enum constants and the empty string literal.
+ * A wrapper is shared only for the very instance it wraps, so a {@code new Integer(1)}
+ * still gets its own wrapper and the value a wrapper returns is always the one it was
+ * created with. The lookup costs a class compare and at most an array access.
+ * <p/>
+ * {@link #intern(Object)} is the opt-in counterpart for values the application knows
+ * to be hot: it returns one wrapper per distinct value, by {@code equals}, like
+ * {@code String.intern}. Interned wrappers are never released, so it is meant for a
+ * bounded set of values such as configuration keys or currency codes.
+ *
+ * @param <W> the type of the wrapper
+ * @since 18.10.26
+ */
+public final class CanonicalPool<W> {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final String EMPTY = "";
+
+    private final Function<Object, ? extends W> wrap;
+    private final W wrappedTrue;
+    private final W wrappedFalse;
+    private final W wrappedEmpty;
+    private final Object[] ints = new Object[HIGH - LOW + 1];
+    private final Object[] longs = new Object[HIGH - LOW + 1];
+    private final ClassValue<Object[]> enums = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Object[] wrapped = new Object[constants.length];
+            for (int i = 0; i < constants.length; i++) wrapped[i] = wrap.apply(constants[i]);
+            return wrapped;
+        }
+    };
+    private final ConcurrentMap<Object, W> interned = new ConcurrentHashMap<>();
+
+    /**
+     * @param wrap creates the wrapper of a value, called once per pooled value
+     */
+    public CanonicalPool(Function<Object, ? extends W> wrap) {
+        this.wrap = Objects.requireNonNull(wrap);
+        this.wrappedTrue = wrap.apply(Boolean.TRUE);
+        this.wrappedFalse = wrap.apply(Boolean.FALSE);
+        this.wrappedEmpty = wrap.apply(EMPTY);
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = wrap.apply(Integer.valueOf(i + LOW));
+            longs[i] = wrap.apply(Long.valueOf(i + LOW));
+        }
+    }
+
+    /**
+     * Returns the shared wrapper of {@code value} if it is one of the values pooled by
+     * default, otherwise {@code null}.
+     *
+     * @param value a non-null value
+     */
+    @SuppressWarnings("unchecked")
+    public W canonical(Object value) {
+        Class<?> type = value.getClass();
+        if (type == Integer.class) {
+            int i = (Integer) value;
+            if (i >= LOW && i <= HIGH && Integer.valueOf(i) == value) return (W) ints[i - LOW];
+        } else if (type == Boolean.class) {
+            if (value == Boolean.TRUE) return wrappedTrue;
+            if (value == Boolean.FALSE) return wrappedFalse;
+        } else if (type == Long.class) {
+            long l = (Long) value;
+            if (l >= LOW && l <= HIGH && Long.valueOf(l) == value) return (W) longs[(int) l - LOW];
+        } else if (type == String.class) {
+            if (value == EMPTY) return wrappedEmpty;
+        } else if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            return (W) enums.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        return null;
+    }
+
+    /**
+     * Returns the shared wrapper of {@code value}, or of the value equal to it that was
+     * interned first, interning {@code value} if there is none yet.
+     *
+     * @param value a non-null value
+     */
+    public W intern(Object value) {
+        W wrapper = canonical(value);
+        if (wrapper != null) return wrapper;
+        wrapper = interned.get(value);
+        if (wrapper == null) wrapper = interned.computeIfAbsent(value, wrap::apply);
+        return wrapper;
+    }
+}
@@ -0,0 +1,105 @@
+package utils.control;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decides which throwables are fatal, i.e. must not be caught into a {@code Failure}
+ * or retried but rethrown; {@link Errors#isFatal(Throwable)} delegates here.
+ * <p/>
+ * The decision is made by rules, each mapping an exception class and its subclasses
+ * to fatal or non-fatal; the first matching rule wins and a throwable no rule matches
+ * is non-fatal. Rules registered by the application come before the defaults, the
+ * latest registered first, so they can override them:
+ * <pre>
+ *     StackOverflowError      non-fatal
+ *     VirtualMachineError     fatal
+ *     ThreadDeath             fatal
+ *     InterruptedException    fatal
+ *     LinkageError            fatal
+ * </pre>
+ * The decision is memoized per exception class in a {@code ClassValue}, so classifying
+ * a repeated failure costs one lookup instead of walking the rules. Registering a rule
+ * publishes a new set of rules with an empty memo.
+ * <pre>{@code
+ *     // a service that handles interruption itself
+ *     ErrorClassifier.registerNonFatal(InterruptedException.class);
+ * }</pre>
+ *
+ * @since 18.10.26
+ */
+public final class ErrorClassifier {
+
+    private static final List<Rule> DEFAULT_RULES = Collections.unmodifiableList(Arrays.asList(
+            new Rule(StackOverflowError.class, false),
+            new Rule(VirtualMachineError.class, true),
+            new Rule(ThreadDeath.class, true),
+            new Rule(InterruptedException.class, true),
+            new Rule(LinkageError.class, true)));
+
+    private static volatile ErrorClassifier current = new ErrorClassifier(DEFAULT_RULES);
+
+    private final List<Rule> rules;
+    private final ClassValue<Boolean> fatal = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Rule rule : rules) {
+                if (rule.type.isAssignableFrom(type)) return rule.fatal;
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    private ErrorClassifier(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * @return {@code true} if {@code t} is fatal according to the current rules
+     */
+    public static boolean isFatal(Throwable t) {
+        return current.fatal.get(t.getClass());
+    }
+
+    /**
+     * Makes {@code type} and its subclasses fatal, overriding earlier rules.
+     */
+    public static void registerFatal(Class<? extends Throwable> type) {
+        register(new Rule(type, true));
+    }
+
+    /**
+     * Makes {@code type} and its subclasses non-fatal, overriding earlier rules.
+     */
+    public static void registerNonFatal(Class<? extends Throwable> type) {
+        register(new Rule(type, false));
+    }
+
+    /**
+     * Drops the registered rules and restores the defaults.
+     */
+    public static synchronized void reset() {
+        current = new ErrorClassifier(DEFAULT_RULES);
+    }
+
+    private static synchronized void register(Rule rule) {
+        List<Rule> rules = new ArrayList<>(current.rules.size() + 1);
+        rules.add(rule);
+        rules.addAll(current.rules);
+        current = new ErrorClassifier(Collections.unmodifiableList(rules));
+    }
+
+    private static final class Rule {
+
+        final Class<? extends Throwable> type;
+        final Boolean fatal;
+
+        Rule(Class<? extends Throwable> type, boolean fatal) {
+            this.type = Objects.requireNonNull(type);
+            this.fatal = fatal;
+        }
+    }
+}
@@ -9,9 +9,11 @@ public final class Errors {
 
     private Errors(){}
 
+    /**
+     * @see ErrorClassifier
+     */
     public static boolean isNonFatal(Throwable t){
-        if (t instanceof StackOverflowError) return true;
-        else return !(t instanceof VirtualMachineError || t instanceof ThreadDeath || t instanceof InterruptedException || t instanceof LinkageError);
+        return !ErrorClassifier.isFatal(t);
     }
 
     @SuppressWarnings("unchecked")
@@ -19,8 +21,11 @@ public final class Errors {
         throw (E)e;
     }
 
+    /**
+     * @see ErrorClassifier
+     */
     public static boolean isFatal(Throwable t){
-        return !isNonFatal(t);
+        return ErrorClassifier.isFatal(t);
     }
 
     public static void throwAsUnchecked(Throwable t){
@@ -0,0 +1,22 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 DoubleFunction. Made for independence from JDK 8
+ * <p/>
+ * Represents a function that accepts a {@code double}-valued argument and produces a
+ * result. This is the {@code double}-consuming primitive specialization for
+ * {@link Function}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface DoubleFunction<R> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param value the function argument
+     * @return the function result
+     */
+    R apply(double value);
+}
@@ -0,0 +1,18 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 DoubleSupplier. Made for independence from JDK 8
+ * <p/>
+ * Represents a supplier of {@code double}-valued results. This is the
+ * {@code double}-producing primitive specialization of {@link Supplier}.
+ */
+@FunctionalInterface
+public interface DoubleSupplier {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     */
+    double getAsDouble();
+}
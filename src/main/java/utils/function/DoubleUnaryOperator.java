@@ -0,0 +1,19 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 DoubleUnaryOperator. Made for independence from JDK 8
+ * <p/>
+ * Represents an operation on a single {@code double}-valued operand that produces
+ * a {@code double}-valued result.
+ */
+@FunctionalInterface
+public interface DoubleUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     */
+    double applyAsDouble(double operand);
+}
@@ -0,0 +1,22 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 IntFunction. Made for independence from JDK 8
+ * <p/>
+ * Represents a function that accepts an {@code int}-valued argument and produces a
+ * result. This is the {@code int}-consuming primitive specialization for
+ * {@link Function}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface IntFunction<R> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param value the function argument
+     * @return the function result
+     */
+    R apply(int value);
+}
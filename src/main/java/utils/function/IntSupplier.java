@@ -0,0 +1,18 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 IntSupplier. Made for independence from JDK 8
+ * <p/>
+ * Represents a supplier of {@code int}-valued results. This is the
+ * {@code int}-producing primitive specialization of {@link Supplier}.
+ */
+@FunctionalInterface
+public interface IntSupplier {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     */
+    int getAsInt();
+}
@@ -0,0 +1,19 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 IntUnaryOperator. Made for independence from JDK 8
+ * <p/>
+ * Represents an operation on a single {@code int}-valued operand that produces
+ * an {@code int}-valued result.
+ */
+@FunctionalInterface
+public interface IntUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     */
+    int applyAsInt(int operand);
+}
@@ -0,0 +1,19 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 LongConsumer. Made for independence from JDK 8
+ * <p/>
+ * Represents an operation that accepts a single {@code long}-valued argument and
+ * returns no result. This is the primitive type specialization of
+ * {@link Consumer} for {@code long}.
+ */
+@FunctionalInterface
+public interface LongConsumer {
+
+    /**
+     * Performs this operation on the given argument.
+     *
+     * @param value the input argument
+     */
+    void accept(long value);
+}
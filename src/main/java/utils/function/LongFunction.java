@@ -0,0 +1,22 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 LongFunction. Made for independence from JDK 8
+ * <p/>
+ * Represents a function that accepts a {@code long}-valued argument and produces a
+ * result. This is the {@code long}-consuming primitive specialization for
+ * {@link Function}.
+ *
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface LongFunction<R> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param value the function argument
+     * @return the function result
+     */
+    R apply(long value);
+}
@@ -0,0 +1,18 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 LongSupplier. Made for independence from JDK 8
+ * <p/>
+ * Represents a supplier of {@code long}-valued results. This is the
+ * {@code long}-producing primitive specialization of {@link Supplier}.
+ */
+@FunctionalInterface
+public interface LongSupplier {
+
+    /**
+     * Gets a result.
+     *
+     * @return a result
+     */
+    long getAsLong();
+}
@@ -0,0 +1,19 @@
+package utils.function;
+
+/**
+ * This is simple version of Java 8 LongUnaryOperator. Made for independence from JDK 8
+ * <p/>
+ * Represents an operation on a single {@code long}-valued operand that produces
+ * a {@code long}-valued result.
+ */
+@FunctionalInterface
+public interface LongUnaryOperator {
+
+    /**
+     * Applies this operator to the given operand.
+     *
+     * @param operand the operand
+     * @return the operator result
+     */
+    long applyAsLong(long operand);
+}
@@ -0,0 +1,14 @@
+package utils.function.exceptional;
+
+/**
+ * A function accepting a {@code double} argument that may throw an exception; the primitive
+ * specialization of {@link FunctionEx}.
+ *
+ * @param <R> the type of the result
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface DoubleFunctionEx<R> {
+
+    R apply(double input) throws Exception;
+}
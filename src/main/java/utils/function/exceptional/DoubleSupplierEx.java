@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * A supplier of {@code double} results that may throw an exception; the primitive
+ * specialization of {@link SupplierEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface DoubleSupplierEx {
+
+    double getAsDouble() throws Exception;
+}
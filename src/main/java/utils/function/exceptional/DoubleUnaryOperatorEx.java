@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * An operation on a {@code double} operand producing a {@code double} result that may throw an
+ * exception; the primitive specialization of {@link FunctionEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface DoubleUnaryOperatorEx {
+
+    double applyAsDouble(double operand) throws Exception;
+}
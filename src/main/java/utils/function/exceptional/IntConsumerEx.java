@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * An operation accepting an {@code int} value that may throw an exception; the primitive
+ * specialization of {@link ConsumerEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface IntConsumerEx {
+
+    void accept(int input) throws Exception;
+}
@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * An operation on an {@code int} operand producing an {@code int} result that may throw an
+ * exception; the primitive specialization of {@link FunctionEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface IntUnaryOperatorEx {
+
+    int applyAsInt(int operand) throws Exception;
+}
@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * An operation accepting a {@code long} value that may throw an exception; the primitive
+ * specialization of {@link ConsumerEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface LongConsumerEx {
+
+    void accept(long input) throws Exception;
+}
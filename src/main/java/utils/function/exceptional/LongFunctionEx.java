@@ -0,0 +1,14 @@
+package utils.function.exceptional;
+
+/**
+ * A function accepting a {@code long} argument that may throw an exception; the primitive
+ * specialization of {@link FunctionEx}.
+ *
+ * @param <R> the type of the result
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface LongFunctionEx<R> {
+
+    R apply(long input) throws Exception;
+}
@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * A predicate on a {@code long} value that may throw an exception; the primitive
+ * specialization of {@link PredicateEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface LongPredicateEx {
+
+    boolean test(long input) throws Exception;
+}
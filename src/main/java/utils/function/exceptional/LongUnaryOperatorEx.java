@@ -0,0 +1,13 @@
+package utils.function.exceptional;
+
+/**
+ * An operation on a {@code long} operand producing a {@code long} result that may throw an
+ * exception; the primitive specialization of {@link FunctionEx}.
+ *
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface LongUnaryOperatorEx {
+
+    long applyAsLong(long operand) throws Exception;
+}
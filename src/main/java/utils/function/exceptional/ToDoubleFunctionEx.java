@@ -0,0 +1,14 @@
+package utils.function.exceptional;
+
+/**
+ * A function producing a {@code double} result that may throw an exception; the primitive
+ * specialization of {@link FunctionEx}.
+ *
+ * @param <T> the type of the input
+ * @since 18.10.26
+ */
+@FunctionalInterface
+public interface ToDoubleFunctionEx<T> {
+
+    double applyAsDouble(T input) throws Exception;
+}
@@ -0,0 +1,54 @@
+package utils.stream;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@code Spliterator} over exactly one element, used to stream the value of a
+ * present {@code Option} or a {@code Success}.
+ * <p/>
+ * It reports an exact size of 1, so sized stream operations such as {@code toArray}
+ * or {@code count} need no buffering, and it never splits.
+ *
+ * @param <T> the type of the element
+ * @since 18.10.26
+ */
+public final class SingletonSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | SIZED | SUBSIZED | IMMUTABLE;
+
+    private final T element;
+    private boolean consumed;
+
+    public SingletonSpliterator(T element) {
+        this.element = element;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (consumed) return false;
+        consumed = true;
+        action.accept(element);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        tryAdvance(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return consumed ? 0 : 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return element == null ? CHARACTERISTICS : CHARACTERISTICS | NONNULL;
+    }
+}
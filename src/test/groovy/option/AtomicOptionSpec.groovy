@@ -0,0 +1,76 @@
+package option
+
+import spock.lang.Specification
+import utils.function.exceptional.FunctionEx
+
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static option.Option.None
+import static option.Option.Some
+
+/**
+ * Specification for AtomicOption.
+ *
+ * @since 18.10.26
+ */
+class AtomicOptionSpec extends Specification {
+
+    def "setIfEmpty should set only an empty cell"() {
+        setup: def cell = new AtomicOption<String>()
+        expect:
+            cell.setIfEmpty("a")
+            !cell.setIfEmpty("b")
+            cell.get() == Some("a")
+    }
+
+    def "take should return the content and empty the cell"() {
+        setup: def cell = new AtomicOption<String>(Some("a"))
+        expect:
+            cell.take() == Some("a")
+            cell.get() == None()
+            cell.take() == None()
+    }
+
+    def "compareAndSet should compare by identity"() {
+        setup:
+            def initial = Some("a")
+            def cell = new AtomicOption<String>(initial)
+        expect:
+            !cell.compareAndSet(Some("a"), Some("b"))
+            cell.compareAndSet(initial, Some("b"))
+            cell.get() == Some("b")
+    }
+
+    def "an update returning its argument should leave the very same instance"() {
+        setup:
+            def initial = Some("a")
+            def cell = new AtomicOption<String>(initial)
+        when:
+            def previous = cell.getAndUpdate({ o -> o.isPresent() ? o : Some("b") } as FunctionEx)
+        then:
+            previous.is(initial)
+            cell.get().is(initial)
+    }
+
+    def "an update that throws should rethrow and leave the content unchanged"() {
+        setup: def cell = new AtomicOption<String>(Some("a"))
+        when: cell.updateAndGet({ o -> throw new IOException("update") } as FunctionEx)
+        then:
+            thrown(IOException)
+            cell.get() == Some("a")
+    }
+
+    def "concurrent updates should not be lost"() {
+        setup:
+            def cell = new AtomicOption<Integer>()
+            def pool = Executors.newFixedThreadPool(4)
+            def increment = { o -> Some(o.orElse(0) + 1) } as FunctionEx
+        when:
+            4.times { pool.execute { 1000.times { cell.updateAndGet(increment) } } }
+            pool.shutdown()
+            pool.awaitTermination(10, TimeUnit.SECONDS)
+        then:
+            cell.get() == Some(4000)
+    }
+}
@@ -0,0 +1,65 @@
+package option
+
+import spock.lang.Specification
+import utils.function.LongConsumer
+import utils.function.LongPredicate
+import utils.function.LongUnaryOperator
+
+import java.nio.ByteBuffer
+import java.nio.ReadOnlyBufferException
+import java.nio.file.Files
+
+/**
+ * @since 18.10.26
+ */
+class MappedOptionLongArraySpec extends Specification {
+
+    def "direct array should behave like OptionLongArray"() {
+        setup:
+            def array = MappedOptionLongArray.allocateDirect(130)
+            array.set(1, 10L)
+            array.set(64, OptionLong.Some(-5L))
+            array.set(129, 7L)
+            array.clear(129)
+            def seen = []
+        when: array.forEach({ long l -> seen << l } as LongConsumer)
+        then:
+            seen == [10L, -5L]
+            array.get(1) == OptionLong.Some(10L)
+            array.get(129) == OptionLong.None()
+            array.orElse(2, 3L) == 3L
+            array.count() == 2
+            array.count({ long l -> l > 0 } as LongPredicate) == 1
+            array.map({ long l -> l * 2 } as LongUnaryOperator).get(64) == OptionLong.Some(-10L)
+            array.filter({ long l -> l > 0 } as LongPredicate).count() == 1
+            array.toHeap().get(1) == OptionLong.Some(10L)
+    }
+
+    def "wrap should reject a buffer that was not formatted"() {
+        when: MappedOptionLongArray.wrap(ByteBuffer.allocate(64))
+        then: thrown(IllegalArgumentException)
+    }
+
+    def "a mapped file should be reopened with the same content"() {
+        setup:
+            def file = Files.createTempFile("option-long-array", ".bin")
+            def written = MappedOptionLongArray.create(file, 1000)
+            written.set(999, 42L)
+            written.set(0, 1L)
+            written.force()
+        when:
+            def reopened = MappedOptionLongArray.openReadOnly(file)
+        then:
+            Files.size(file) == MappedOptionLongArray.sizeInBytes(1000)
+            reopened.length() == 1000
+            reopened.count() == 2
+            reopened.get(999) == OptionLong.Some(42L)
+            reopened.get(500) == OptionLong.None()
+        when:
+            reopened.set(1, 1L)
+        then:
+            thrown(ReadOnlyBufferException)
+        cleanup:
+            Files.deleteIfExists(file)
+    }
+}
@@ -0,0 +1,85 @@
+package option
+
+import spock.lang.Specification
+import utils.function.Consumer
+import utils.function.Function
+import utils.function.LongConsumer
+import utils.function.LongFunction
+import utils.function.LongPredicate
+import utils.function.LongUnaryOperator
+import utils.function.Predicate
+
+import static option.Option.None
+import static option.Option.Some
+
+/**
+ * @since 18.10.26
+ */
+class OptionArraySpec extends Specification {
+
+    def "new array should contain only empty elements"() {
+        setup: def array = new OptionArray<String>(70)
+        expect:
+            array.length() == 70
+            array.count() == 0
+            array.get(69) == None()
+            array.nextPresent(0) == -1
+    }
+
+    def "set and clear should be visible through get"() {
+        setup: def array = new OptionArray<String>(130)
+        when:
+            array.set(0, "a")
+            array.set(64, Some("b"))
+            array.set(129, "c")
+            array.clear(0)
+        then:
+            array.get(0) == None()
+            array.get(64) == Some("b")
+            array.orElse(1, "z") == "z"
+            array.count() == 2
+            array.nextPresent(0) == 64
+            array.nextPresent(65) == 129
+    }
+
+    def "get out of range should throw IndexOutOfBoundsException"() {
+        when: new OptionArray<String>(3).get(3)
+        then: thrown(IndexOutOfBoundsException)
+    }
+
+    def "bulk operations should only see present values"() {
+        setup:
+            def array = OptionArray.of(Some("a"), None(), Some("bb"), None())
+            def seen = []
+        when:
+            array.forEach({ seen << it } as Consumer)
+        then:
+            seen == ["a", "bb"]
+            array.map({ String s -> s.length() } as Function).toString() == "OptionArray[Some{1}, None, Some{2}, None]"
+            array.filter({ String s -> s.length() > 1 } as Predicate).count() == 1
+            array.count({ String s -> s.startsWith("b") } as Predicate) == 1
+    }
+
+    def "OptionLongArray should keep values unboxed and support bulk operations"() {
+        setup:
+            def array = new OptionLongArray(200)
+            (0..<200).step(3).each { array.set(it, it as long) }
+            def sum = 0L
+        when:
+            array.filter({ long l -> l % 2 == 0 } as LongPredicate)
+                    .map({ long l -> l * 10 } as LongUnaryOperator)
+                    .forEach({ long l -> sum += l } as LongConsumer)
+        then:
+            array.count() == 67
+            array.get(3) == OptionLong.Some(3)
+            array.get(4) == OptionLong.None()
+            sum == (0..<200).step(6).sum() * 10
+            array.mapToObj({ long l -> l.toString() } as LongFunction).get(6) == Some("6")
+    }
+
+    def "OptionIntArray and OptionDoubleArray should round trip their options"() {
+        expect:
+            OptionIntArray.of(OptionInt.Some(1), OptionInt.None()).get(0) == OptionInt.Some(1)
+            OptionDoubleArray.of(OptionDouble.None(), OptionDouble.Some(2.5d)).get(1) == OptionDouble.Some(2.5d)
+    }
+}
@@ -0,0 +1,92 @@
+package option
+
+import spock.lang.Specification
+import utils.function.exceptional.FunctionEx
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static option.Option.None
+import static option.Option.Some
+
+/**
+ * @since 18.10.26
+ */
+class OptionCacheSpec extends Specification {
+
+    AtomicInteger loads = new AtomicInteger()
+
+    def "present and absent results should both be cached"() {
+        setup:
+            def cache = OptionCache.newBuilder().build({ Integer key ->
+                loads.incrementAndGet()
+                key > 0 ? Some("v" + key) : None()
+            } as FunctionEx)
+        when:
+            def results = [cache.get(1), cache.get(1), cache.get(-1), cache.get(-1)]
+        then:
+            results == [Some("v1"), Some("v1"), None(), None()]
+            loads.get() == 2
+            cache.presentSize() == 1
+            cache.absentSize() == 1
+    }
+
+    def "absent entries should expire after their own ttl"() {
+        setup:
+            def cache = OptionCache.newBuilder()
+                    .presentTtl(1, TimeUnit.HOURS)
+                    .absentTtl(0, TimeUnit.NANOSECONDS)
+                    .build({ key -> loads.incrementAndGet(); None() } as FunctionEx)
+        when:
+            cache.get("a")
+            cache.get("a")
+        then: loads.get() == 2
+    }
+
+    def "loader exceptions should be rethrown and not cached"() {
+        setup:
+            def cache = OptionCache.newBuilder().build({ key ->
+                if (loads.incrementAndGet() == 1) throw new IOException()
+                Some(key)
+            } as FunctionEx)
+        when: cache.get("a")
+        then: thrown(IOException)
+        expect: cache.get("a") == Some("a")
+    }
+
+    def "put and invalidate should replace cached entries"() {
+        setup:
+            def cache = OptionCache.newBuilder().build({ key -> None() } as FunctionEx)
+        when:
+            cache.get("a")
+            cache.put("a", Some(1))
+        then:
+            cache.get("a") == Some(1)
+        when:
+            cache.invalidate("a")
+        then:
+            cache.get("a") == None()
+    }
+
+    def "concurrent lookups of the same missing key should load it once"() {
+        setup:
+            def started = new CountDownLatch(1)
+            def cache = OptionCache.newBuilder().build({ key ->
+                loads.incrementAndGet()
+                started.await()
+                None()
+            } as FunctionEx)
+            def pool = Executors.newFixedThreadPool(8)
+        when:
+            def futures = (1..8).collect { pool.submit({ cache.get("missing") } as java.util.concurrent.Callable) }
+            Thread.sleep(100)
+            started.countDown()
+        then:
+            futures.collect { it.get() } == [None()] * 8
+            loads.get() == 1
+        cleanup:
+            pool.shutdownNow()
+    }
+}
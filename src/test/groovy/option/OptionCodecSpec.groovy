@@ -0,0 +1,77 @@
+package option
+
+import spock.lang.Specification
+import utils.codec.ValueCodecs
+
+import java.nio.ByteBuffer
+
+import static option.Option.None
+import static option.Option.Some
+
+/**
+ * Specification for OptionCodec and the string codec it is used with.
+ *
+ * @since 18.10.26
+ */
+class OptionCodecSpec extends Specification {
+
+    def "options should survive a round trip through heap and direct buffers"() {
+        setup:
+            def codec = OptionCodec.of(OptionCodec.of(ValueCodecs.STRING))
+        expect:
+            [ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)].every { buffer ->
+                [None(), Some(None()), Some(Some("a"))].every { option ->
+                    buffer.clear()
+                    codec.write(option, buffer)
+                    buffer.flip()
+                    codec.read(buffer) == option && !buffer.hasRemaining()
+                }
+            }
+    }
+
+    def "None should take one byte and Some of an int five"() {
+        setup: def buffer = ByteBuffer.allocate(16)
+        when:
+            OptionCodec.of(ValueCodecs.INT).write(None(), buffer)
+            OptionCodec.write(OptionInt.Some(7), buffer)
+        then:
+            buffer.position() == 6
+        when:
+            buffer.flip()
+        then:
+            OptionCodec.of(ValueCodecs.INT).read(buffer) == None()
+            OptionCodec.readInt(buffer) == OptionInt.Some(7)
+    }
+
+    def "primitive options should survive a round trip"() {
+        setup: def buffer = ByteBuffer.allocateDirect(32)
+        when:
+            OptionCodec.write(OptionLong.Some(Long.MIN_VALUE), buffer)
+            OptionCodec.write(OptionDouble.None(), buffer)
+            OptionCodec.write(OptionDouble.Some(0.5d), buffer)
+            buffer.flip()
+        then:
+            OptionCodec.readLong(buffer) == OptionLong.Some(Long.MIN_VALUE)
+            OptionCodec.readDouble(buffer) == OptionDouble.None()
+            OptionCodec.readDouble(buffer) == OptionDouble.Some(0.5d)
+    }
+
+    def "strings should be written as UTF-8 straight into the buffer"() {
+        setup:
+            def buffer = ByteBuffer.allocateDirect(64)
+            def text = "aé€😀"
+        when:
+            ValueCodecs.writeString(text, buffer)
+            ValueCodecs.writeString(null, buffer)
+            buffer.flip()
+        then:
+            buffer.getInt(0) == text.getBytes("UTF-8").length
+            ValueCodecs.readString(buffer) == text
+            ValueCodecs.readString(buffer) == null
+    }
+
+    def "an unknown tag should be rejected"() {
+        when: OptionCodec.readInt(ByteBuffer.wrap([7] as byte[]))
+        then: thrown(IllegalArgumentException)
+    }
+}
@@ -0,0 +1,56 @@
+package option
+
+import spock.lang.Specification
+import utils.function.Function
+import utils.function.Predicate
+import utils.function.Supplier
+
+import static option.Option.None
+import static option.Option.Some
+
+/**
+ * @since 18.10.26
+ */
+class OptionEvalSpec extends Specification {
+
+    static OptionEval<Integer> countDown(int n) {
+        if (n == 0) return OptionEval.now(Some(0))
+        OptionEval.defer({ countDown(n - 1) } as Supplier).map({ it + 1 } as Function)
+    }
+
+    def "deep recursion through defer should not overflow the stack"() {
+        expect:
+            countDown(1000000).run() == Some(1000000)
+    }
+
+    def "long chains of flatMap should not overflow the stack"() {
+        setup:
+            OptionEval<Integer> eval = OptionEval.now(Some(0))
+            100000.times { eval = eval.flatMap({ i -> OptionEval.now(Some(i + 1)) } as Function) }
+        expect:
+            eval.run() == Some(100000)
+    }
+
+    def "steps should behave as the Option methods"() {
+        expect:
+            OptionEval.now(Some(2)).map({ it * 21 } as Function).run() == Some(42)
+            OptionEval.now(Some(2)).map({ null } as Function).run() == None()
+            OptionEval.now(Some(2)).filter({ it > 5 } as Predicate).run() == None()
+            OptionEval.now(Some(2)).filter({ it < 5 } as Predicate).run() == Some(2)
+    }
+
+    def "evaluation should stop at the first empty result"() {
+        setup:
+            def calls = 0
+        expect:
+            OptionEval.now(None()).map({ calls++; it } as Function).run() == None()
+            calls == 0
+    }
+
+    def "a null computation should be rejected"() {
+        when:
+            OptionEval.defer({ null } as Supplier).run()
+        then:
+            thrown(NullPointerException)
+    }
+}
@@ -202,4 +202,77 @@ class OptionSpec extends Specification{
         when: Some(1).foreach({it -> println(it)} as Consumer)
         then: noExceptionThrown()
     }
+
+    def "pipeline should apply all steps in order"() {
+        setup:
+            def pipeline = Option.<String>pipeline()
+                    .map({ String s -> s.trim() } as Function)
+                    .filterNot({ String s -> s.isEmpty() } as Predicate)
+                    .map({ String s -> Integer.valueOf(s) } as Function)
+                    .flatMap({ Integer i -> i > 0 ? Some(i) : None() } as Function)
+        expect:
+            pipeline.apply(" 8 ") == Some(8)
+            pipeline.apply("   ") == None()
+            pipeline.apply("-1") == None()
+            pipeline.apply((String) null) == None()
+            pipeline.apply(Some("2")) == Some(2)
+    }
+
+    def "pipeline should produce None when a map step returns null"() {
+        expect: Option.<String>pipeline().map({ s -> null } as Function).apply("a") == None()
+    }
+
+    def "stream should hold the value of Some only"() {
+        expect:
+            Some(1).stream().collect(java.util.stream.Collectors.toList()) == [1]
+            None().stream().count() == 0
+            Some(1).spliterator().getExactSizeIfKnown() == 1
+            None().spliterator().getExactSizeIfKnown() == 0
+    }
+
+    def "the iterator of Some should throw NoSuchElementException when exhausted"() {
+        setup:
+            def it = Some(1).iterator()
+            it.next()
+        when:
+            it.next()
+        then:
+            thrown(NoSuchElementException)
+    }
+
+    def "fold should apply the function of the case"() {
+        setup:
+            def ifEmpty = { "none" } as Supplier
+            def ifPresent = { it * 2 } as Function
+        expect:
+            Some(3).fold(ifEmpty, ifPresent) == 6
+            None().fold(ifEmpty, ifPresent) == "none"
+            Some(3).fold(ifEmpty, { null } as Function) == null
+    }
+
+    def "Some of booleans, small integers, enum constants and the empty string should be shared"() {
+        expect:
+            Some(true).is(Some(Boolean.TRUE))
+            Some(Integer.valueOf(127)).is(Some(Integer.valueOf(127)))
+            Some(Long.valueOf(-128)).is(Some(Long.valueOf(-128)))
+            Some(java.util.concurrent.TimeUnit.SECONDS).is(Some(java.util.concurrent.TimeUnit.SECONDS))
+            Some("").is(Option.ofNullable(""))
+            !Some(Integer.valueOf(128)).is(Some(Integer.valueOf(128)))
+    }
+
+    def "Some of a box other than the cached one should keep its value"() {
+        setup: def box = new Integer(1)
+        expect:
+            Some(box).get().is(box)
+            Some(box) == Some(1)
+            Some(box).hashCode() == Some(1).hashCode()
+    }
+
+    def "intern should return one Some per distinct value"() {
+        setup: def key = "interned-" + 42
+        expect:
+            Option.intern(key).is(Option.intern(new String(key)))
+            Option.intern(key) == Some(key)
+            Option.intern(1).is(Some(1))
+    }
 }
@@ -0,0 +1,70 @@
+package option
+
+import spock.lang.Specification
+import utils.function.DoublePredicate
+import utils.function.IntFunction
+import utils.function.IntPredicate
+import utils.function.IntSupplier
+import utils.function.IntUnaryOperator
+import utils.function.LongUnaryOperator
+
+/**
+ * Specification for OptionInt, OptionLong and OptionDouble.
+ *
+ * @since 18.10.26
+ */
+class PrimitiveOptionSpec extends Specification {
+
+    def "None of every primitive option should be one shared instance"() {
+        expect:
+            OptionInt.None().is(OptionInt.None())
+            OptionLong.None().is(OptionLong.None())
+            OptionDouble.None().is(OptionDouble.None())
+    }
+
+    def "map on OptionInt.Some(2) should produce OptionInt.Some(3)"() {
+        expect: OptionInt.Some(2).map({ int i -> i + 1 } as IntUnaryOperator) == OptionInt.Some(3)
+    }
+
+    def "map on OptionLong.None should produce None"() {
+        expect: OptionLong.None().map({ long l -> l + 1 } as LongUnaryOperator) == OptionLong.None()
+    }
+
+    def "filter should keep matching values and drop the others"() {
+        expect:
+            OptionInt.Some(5).filter({ int i -> i > 4 } as IntPredicate) == OptionInt.Some(5)
+            OptionInt.Some(3).filter({ int i -> i > 4 } as IntPredicate) == OptionInt.None()
+            OptionDouble.Some(0.5d).filter({ double d -> d < 0 } as DoublePredicate).isEmpty()
+    }
+
+    def "orElse and orElseGet should return the value when present and the default otherwise"() {
+        expect:
+            OptionInt.Some(1).orElse(2) == 1
+            OptionInt.None().orElse(2) == 2
+            OptionInt.None().orElseGet({ 7 } as IntSupplier) == 7
+    }
+
+    def "get on None should throw NoSuchElementException"() {
+        when: OptionLong.None().get()
+        then: thrown(NoSuchElementException)
+    }
+
+    def "mapToObj should produce a boxed Option"() {
+        expect: OptionInt.Some(1).mapToObj({ int i -> i.toString() } as IntFunction) == Option.Some("1")
+    }
+
+    def "conversion to and from Option should round trip"() {
+        expect:
+            OptionLong.of(Option.Some(3L)) == OptionLong.Some(3L)
+            OptionLong.of(Option.<Long> None()) == OptionLong.None()
+            OptionInt.Some(4).toOption() == Option.Some(4)
+            OptionDouble.None().toOption() == Option.None()
+    }
+
+    def "OptionDouble equality should follow Double.compare"() {
+        expect:
+            OptionDouble.Some(Double.NaN) == OptionDouble.Some(Double.NaN)
+            OptionDouble.Some(Double.NaN).hashCode() == OptionDouble.Some(Double.NaN).hashCode()
+            OptionDouble.Some(1.0d) != OptionDouble.None()
+    }
+}
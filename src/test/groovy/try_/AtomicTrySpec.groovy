@@ -0,0 +1,75 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.FunctionEx
+import utils.function.exceptional.SupplierEx
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * Specification for AtomicTry.
+ *
+ * @since 18.10.26
+ */
+class AtomicTrySpec extends Specification {
+
+    def "an empty cell should hold one shared failure that keeps no state"() {
+        setup:
+            def first = new AtomicTry<String>()
+            def second = new AtomicTry<String>()
+        when:
+            Try.exceptionOf(first.get()).addSuppressed(new IOException())
+        then:
+            first.isEmpty()
+            first.get().is(second.get())
+            Try.exceptionOf(first.get()) instanceof AtomicTry.EmptyException
+            Try.exceptionOf(second.get()).suppressed.length == 0
+            Try.exceptionOf(second.get()).stackTrace.length == 0
+    }
+
+    def "the failure of an empty cell should stand for the empty cell"() {
+        setup: def cell = new AtomicTry<String>()
+        expect:
+            cell.compareAndSet(cell.get(), Success("a"))
+            cell.get() == Success("a")
+            cell.updateAndGet({ t -> new AtomicTry<String>().get() } as FunctionEx).isFailure()
+            cell.isEmpty()
+    }
+
+    def "setIfEmpty should set only an empty cell and take should empty it again"() {
+        setup: def cell = new AtomicTry<String>()
+        expect:
+            cell.setIfEmpty(Success("a"))
+            !cell.setIfEmpty(Success("b"))
+            cell.take() == Success("a")
+            cell.isEmpty()
+            cell.take().is(cell.get())
+    }
+
+    def "a Failure set by the caller should not count as empty"() {
+        setup: def cell = new AtomicTry<String>(Failure(new NoSuchElementException()))
+        expect:
+            !cell.isEmpty()
+            !cell.setIfEmpty(Success("a"))
+    }
+
+    def "recover on a Success should be a no-op update"() {
+        setup:
+            def initial = Success("a")
+            def cell = new AtomicTry<String>(initial)
+            def recover = { t -> t.recover({ e -> "b" } as FunctionEx) } as FunctionEx
+        expect:
+            cell.updateAndGet(recover).is(initial)
+            cell.get().is(initial)
+    }
+
+    def "getAndUpdate should replace a failure"() {
+        setup: def cell = new AtomicTry<String>(Failure(new IOException()))
+        when:
+            def previous = cell.getAndUpdate({ t -> t.isFailure() ? Try.asTry({ "loaded" } as SupplierEx) : t } as FunctionEx)
+        then:
+            previous.isFailure()
+            cell.get() == Success("loaded")
+    }
+}
@@ -0,0 +1,81 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class BatchSpec extends Specification {
+
+    def running = new CountDownLatch(1)
+    def interrupted = new CountDownLatch(1)
+
+    def value(v) {
+        { -> v } as SupplierEx
+    }
+
+    def failing(String message) {
+        { -> throw new IllegalStateException(message) } as SupplierEx
+    }
+
+    def hanging() {
+        { ->
+            running.countDown()
+            try {
+                Thread.sleep(10000)
+            } catch (InterruptedException e) {
+                interrupted.countDown()
+                throw e
+            }
+        } as SupplierEx
+    }
+
+    def "all should return the values in order"() {
+        expect:
+            Try.all([value(1), value(2), value(3)]) == Success([1, 2, 3])
+            Try.all([]) == Success([])
+    }
+
+    def "all should fail fast and interrupt the running blocks"() {
+        when:
+            // fails only once the other block runs, so there is a running block to interrupt
+            def result = Try.all([hanging(), { running.await(); throw new IllegalStateException("boom") } as SupplierEx])
+        then:
+            Try.exceptionOf(result).message == "boom"
+            interrupted.await(1, TimeUnit.SECONDS)
+    }
+
+    def "allSettled should return every result in order"() {
+        when:
+            def results = Try.allSettled([value(1), failing("boom"), value(3)])
+        then:
+            results.size() == 3
+            results[0] == Success(1)
+            Try.exceptionOf(results[1]).message == "boom"
+            results[2] == Success(3)
+    }
+
+    def "blocks rejected by the executor should fail"() {
+        setup:
+            def pool = Executors.newSingleThreadExecutor()
+            pool.shutdown()
+        expect:
+            Try.exceptionOf(Try.all([value(1)], pool)) instanceof RejectedExecutionException
+            Try.exceptionOf(Try.allSettled([value(1)], pool)[0]) instanceof RejectedExecutionException
+    }
+
+    def "fatal errors should be thrown"() {
+        when:
+            Try.allSettled([{ throw new OutOfMemoryError() } as SupplierEx])
+        then:
+            thrown(OutOfMemoryError)
+    }
+}
@@ -0,0 +1,256 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.LongSupplier
+import utils.function.Predicate
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+import static try_.CircuitBreaker.State.CLOSED
+import static try_.CircuitBreaker.State.HALF_OPEN
+import static try_.CircuitBreaker.State.OPEN
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class CircuitBreakerSpec extends Specification {
+
+    long now = 0
+    int runs = 0
+    def ok = { runs++; "ok" } as SupplierEx
+    def boom = { runs++; throw new IOException("boom") } as SupplierEx
+
+    def breaker = CircuitBreaker.newBuilder()
+            .failureRateThreshold(0.5)
+            .minimumCalls(4)
+            .window(10, TimeUnit.SECONDS)
+            .openDuration(5, TimeUnit.SECONDS)
+            .halfOpenProbes(2)
+            .ticker({ now } as LongSupplier)
+            .build()
+
+    def seconds(long s) {
+        now += TimeUnit.SECONDS.toNanos(s)
+    }
+
+    def "a closed breaker should run blocks and count their outcomes"() {
+        when:
+            def results = [breaker.call(ok), breaker.call(boom), breaker.call(ok)]
+        then:
+            results[0] == Success("ok")
+            results[1].isFailure()
+            breaker.calls() == 3
+            breaker.failures() == 1
+            breaker.state() == CLOSED
+    }
+
+    def "the breaker should open once the failure rate reaches the threshold"() {
+        when:
+            2.times { breaker.call(ok) }
+            2.times { breaker.call(boom) }
+        then:
+            breaker.state() == OPEN
+        when:
+            def rejected = breaker.call(ok)
+        then:
+            runs == 4
+            Try.exceptionOf(rejected) instanceof CircuitBreaker.CircuitOpenException
+            rejected.is(breaker.call(boom))
+        when:
+            Try.exceptionOf(rejected).addSuppressed(new IOException())
+        then:
+            Try.exceptionOf(breaker.call(boom)).suppressed.length == 0
+            Try.exceptionOf(rejected).stackTrace.length == 0
+    }
+
+    def "the breaker should not open before the minimum number of calls"() {
+        when:
+            3.times { breaker.call(boom) }
+        then:
+            breaker.state() == CLOSED
+    }
+
+    def "outcomes should slide out of the window"() {
+        when:
+            3.times { breaker.call(boom) }
+            seconds(11)
+            breaker.call(boom)
+        then:
+            breaker.calls() == 1
+            breaker.state() == CLOSED
+    }
+
+    def "a half-open breaker should close after successful probes"() {
+        setup:
+            4.times { breaker.call(boom) }
+        when:
+            seconds(5)
+        then:
+            breaker.state() == HALF_OPEN
+        when:
+            breaker.call(ok)
+        then:
+            breaker.state() == HALF_OPEN
+        when:
+            breaker.call(ok)
+        then:
+            breaker.state() == CLOSED
+            breaker.calls() == 0
+    }
+
+    def "a failed probe should open the breaker again"() {
+        setup:
+            4.times { breaker.call(boom) }
+            seconds(5)
+        when:
+            breaker.call(boom)
+        then:
+            breaker.state() == OPEN
+        when:
+            seconds(4)
+        then:
+            breaker.state() == OPEN
+    }
+
+    def "a late probe of an earlier round should not count towards the current one"() {
+        setup:
+            4.times { breaker.call(boom) }
+            seconds(5)
+        when: "the probe outlives its round, which times out, and a new round starts"
+            def states = []
+            breaker.call({
+                seconds(10)
+                states << breaker.state()
+                seconds(5)
+                states << breaker.state()
+                "late"
+            } as SupplierEx)
+        then:
+            states == [OPEN, HALF_OPEN]
+            breaker.state() == HALF_OPEN
+        when:
+            breaker.call(ok)
+        then: "the current round still needs both of its probes"
+            breaker.state() == HALF_OPEN
+        when:
+            breaker.call(ok)
+        then:
+            breaker.state() == CLOSED
+    }
+
+    def "a hanging probe should not keep the breaker half-open"() {
+        setup:
+            def pool = Executors.newSingleThreadExecutor()
+            def started = new CountDownLatch(1)
+            def release = new CountDownLatch(1)
+            4.times { breaker.call(boom) }
+            seconds(5)
+        when:
+            def hanging = pool.submit({
+                breaker.call({ started.countDown(); release.await(); throw new IOException("late") } as SupplierEx)
+            } as Callable)
+            started.await()
+            breaker.call(ok)
+            def rejected = breaker.call(ok)
+        then:
+            Try.exceptionOf(rejected) instanceof CircuitBreaker.CircuitOpenException
+        when:
+            seconds(10)
+        then:
+            breaker.state() == OPEN
+        when:
+            seconds(5)
+        then:
+            breaker.state() == HALF_OPEN
+        when: "the hanging probe fails after its round is over"
+            release.countDown()
+            hanging.get(1, TimeUnit.SECONDS)
+        then:
+            breaker.state() == HALF_OPEN
+            2.times { breaker.call(ok) }
+            breaker.state() == CLOSED
+        cleanup:
+            pool.shutdownNow()
+    }
+
+    def "a half-open breaker should close under low traffic"() {
+        setup:
+            4.times { breaker.call(boom) }
+            seconds(5)
+        when: "the probes come in further apart than the half-open timeout"
+            breaker.call(ok)
+            seconds(12)
+        then:
+            breaker.state() == HALF_OPEN
+        when:
+            seconds(12)
+            breaker.call(ok)
+        then:
+            breaker.state() == CLOSED
+    }
+
+    def "outcomes recorded while a slice rolls over should not be lost"() {
+        setup:
+            def threads = 4
+            def perThread = 500
+            def pool = Executors.newFixedThreadPool(threads)
+            def barrier = new CyclicBarrier(threads)
+            def counting = CircuitBreaker.newBuilder()
+                    .minimumCalls(Long.MAX_VALUE)
+                    .window(10, TimeUnit.SECONDS)
+                    .ticker({ now } as LongSupplier)
+                    .build()
+            def laps = []
+        when: "every lap the threads race to roll the same slice of the ring"
+            20.times {
+                seconds(10)
+                def tasks = (1..threads).collect {
+                    pool.submit({
+                        barrier.await()
+                        perThread.times { counting.call(ok) }
+                    } as Callable)
+                }
+                tasks.each { it.get(10, TimeUnit.SECONDS) }
+                laps << counting.calls()
+            }
+        then:
+            laps == [threads * perThread] * 20
+        cleanup:
+            pool.shutdownNow()
+    }
+
+    def "failures rejected by recordFailure should not be counted"() {
+        setup:
+            def lenient = CircuitBreaker.newBuilder().minimumCalls(1)
+                    .recordFailure({ !(it instanceof IOException) } as Predicate).build()
+        when:
+            3.times { lenient.call(boom) }
+        then:
+            lenient.state() == CLOSED
+            lenient.failures() == 0
+    }
+
+    def "fatal errors should be rethrown and counted"() {
+        when:
+            breaker.call({ throw new OutOfMemoryError() } as SupplierEx)
+        then:
+            thrown(OutOfMemoryError)
+            breaker.failures() == 1
+    }
+
+    def "reset should close the breaker"() {
+        setup:
+            4.times { breaker.call(boom) }
+        when:
+            breaker.reset()
+        then:
+            breaker.state() == CLOSED
+            breaker.call(ok) == Success("ok")
+    }
+}
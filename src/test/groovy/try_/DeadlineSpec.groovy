@@ -0,0 +1,125 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.SupplierEx
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class DeadlineSpec extends Specification {
+
+    def pool = Executors.newCachedThreadPool()
+    def running = new CountDownLatch(1)
+    def interrupted = new CountDownLatch(1)
+
+    def cleanup() {
+        pool.shutdownNow()
+    }
+
+    /**
+     * Submits to the pool and returns once the block counted down {@code started}, so
+     * that the timeout always finds it running. An interrupt while waiting is kept for
+     * the caller.
+     */
+    def awaiting(CountDownLatch started) {
+        { Runnable task ->
+            pool.execute(task)
+            boolean wasInterrupted = false
+            while (true) {
+                try {
+                    started.await()
+                    break
+                } catch (InterruptedException e) {
+                    wasInterrupted = true
+                }
+            }
+            if (wasInterrupted) Thread.currentThread().interrupt()
+        } as Executor
+    }
+
+    def sleeping(long millis) {
+        { ->
+            running.countDown()
+            try {
+                Thread.sleep(millis)
+            } catch (InterruptedException e) {
+                interrupted.countDown()
+                throw e
+            }
+            "done"
+        } as SupplierEx
+    }
+
+    def "a block completing in time should return its result"() {
+        expect:
+            Try.asTry({ 42 } as SupplierEx, Duration.ofSeconds(1), pool) == Success(42)
+    }
+
+    def "a block exceeding the timeout should fail with TimeoutException and be interrupted"() {
+        when:
+            def result = Try.asTry(sleeping(10000), Duration.ofMillis(100), awaiting(running))
+        then:
+            result.isFailure()
+            Try.exceptionOf(result) instanceof TimeoutException
+            interrupted.await(1, TimeUnit.SECONDS)
+    }
+
+    def "an expired deadline should fail without running the block"() {
+        setup:
+            def deadline = Deadline.after(0, TimeUnit.NANOSECONDS)
+        expect:
+            Try.exceptionOf(Try.asTry({ throw new AssertionError() } as SupplierEx, deadline, pool)) instanceof TimeoutException
+    }
+
+    def "the block should see the effective deadline as the current one"() {
+        setup:
+            def deadline = Deadline.after(1, TimeUnit.SECONDS)
+        expect:
+            Deadline.current().isEmpty()
+            Try.asTry({ Deadline.current().get() } as SupplierEx, deadline, pool) == Success(deadline)
+            Deadline.current().isEmpty()
+    }
+
+    def "a nested block should not outlive the budget of its caller"() {
+        setup:
+            def outerRunning = new CountDownLatch(1)
+            def inner = {
+                outerRunning.countDown()
+                Try.asTry(sleeping(10000), Duration.ofSeconds(5), awaiting(running))
+            } as SupplierEx
+        when:
+            long start = System.nanoTime()
+            def result = Try.asTry(inner, Duration.ofMillis(500), awaiting(outerRunning))
+        then:
+            interrupted.await(1, TimeUnit.SECONDS)
+            System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2)
+    }
+
+    def "a nested block should inherit the earlier deadline of its caller"() {
+        setup:
+            def outer = Deadline.after(1, TimeUnit.SECONDS)
+            def inner = { Try.asTry({ Deadline.current().get() } as SupplierEx, Duration.ofDays(1), pool) } as SupplierEx
+        expect:
+            Try.asTry(inner, outer, pool) == Success(Success(outer))
+    }
+
+    def "min should return the earlier deadline"() {
+        setup:
+            def early = Deadline.after(1, TimeUnit.SECONDS)
+            def late = Deadline.after(Duration.ofDays(1))
+        expect:
+            early.min(late).is(early)
+            late.min(early).is(early)
+            !late.isExpired()
+            late.remaining(TimeUnit.HOURS) >= 23
+    }
+}
@@ -0,0 +1,70 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.FunctionEx
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class MemoSpec extends Specification {
+
+    AtomicInteger calls = new AtomicInteger()
+
+    def "successes should be computed once per key"() {
+        setup: def memo = Memo.of({ String s -> calls.incrementAndGet(); s.length() } as FunctionEx)
+        expect:
+            memo.apply("ab") == Success(2)
+            memo.apply("ab") == Success(2)
+            memo.apply("abc") == Success(3)
+            calls.get() == 2
+    }
+
+    def "failures should not be cached by default"() {
+        setup: def memo = Memo.of({ String s -> calls.incrementAndGet(); Integer.valueOf(s) } as FunctionEx)
+        expect:
+            memo.apply("x") == Failure(new NumberFormatException())
+            memo.apply("x") == Failure(new NumberFormatException())
+            calls.get() == 2
+    }
+
+    def "failures should be cached when enabled"() {
+        setup:
+            def memo = Memo.newBuilder()
+                    .cacheFailures(1, TimeUnit.HOURS)
+                    .build({ String s -> calls.incrementAndGet(); Integer.valueOf(s) } as FunctionEx)
+        expect:
+            memo.apply("x").isFailure()
+            memo.apply("x").isFailure()
+            calls.get() == 1
+    }
+
+    def "the least recently used result should be evicted beyond the maximum size"() {
+        setup:
+            def memo = Memo.newBuilder()
+                    .maximumSize(1)
+                    .concurrencyLevel(1)
+                    .build({ String s -> calls.incrementAndGet(); s } as FunctionEx)
+        when:
+            memo.apply("a")
+            memo.apply("b")
+            memo.apply("a")
+        then:
+            calls.get() == 3
+            memo.size() == 1
+    }
+
+    def "invalidate should force a recomputation"() {
+        setup: def memo = Memo.of({ String s -> calls.incrementAndGet() } as FunctionEx)
+        when:
+            memo.apply("a")
+            memo.invalidate("a")
+            memo.apply("a")
+        then: calls.get() == 2
+    }
+}
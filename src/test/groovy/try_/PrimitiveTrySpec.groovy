@@ -0,0 +1,86 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.DoubleUnaryOperatorEx
+import utils.function.exceptional.FunctionEx
+import utils.function.exceptional.IntFunctionEx
+import utils.function.exceptional.IntPredicateEx
+import utils.function.exceptional.IntSupplierEx
+import utils.function.exceptional.IntUnaryOperatorEx
+import utils.function.exceptional.LongSupplierEx
+import utils.function.exceptional.SupplierEx
+import utils.function.exceptional.ToIntFunctionEx
+import utils.function.exceptional.ToLongFunctionEx
+
+/**
+ * Specification for TryInt, TryLong and TryDouble.
+ *
+ * @since 18.10.26
+ */
+class PrimitiveTrySpec extends Specification {
+
+    def "mapToInt should parse into an unboxed success or a failure"() {
+        setup: def parse = { Integer.parseInt(it) } as ToIntFunctionEx
+        expect:
+            Try.asTry({ "42" } as SupplierEx).mapToInt(parse) == TryInt.Success(42)
+            Try.asTry({ "x" } as SupplierEx).mapToInt(parse).isFailure()
+            Try.Failure(new IOException()).mapToInt(parse) == TryInt.Failure(new IOException())
+    }
+
+    def "combinators of TryInt should follow the semantics of Try"() {
+        expect:
+            TryInt.Success(2).map({ int i -> i + 1 } as IntUnaryOperatorEx).get() == 3
+            TryInt.Success(2).filter({ int i -> i > 5 } as IntPredicateEx).isFailure()
+            TryInt.Success(2).flatMap({ int i -> TryInt.Failure(new IOException()) } as IntFunctionEx).isFailure()
+            TryInt.Success(2).mapToObj({ int i -> "v" + i } as IntFunctionEx) == Try.Success("v2")
+            TryInt.Failure(new IOException()).recover({ e -> -1 } as ToIntFunctionEx).get() == -1
+            TryInt.Failure(new IOException()).recoverWith({ e -> TryInt.Success(7) } as FunctionEx) == TryInt.Success(7)
+            TryInt.Failure(new IOException()).getOrElse({ 5 } as IntSupplierEx) == 5
+            TryInt.Success(2).fold({ e -> "failure" } as FunctionEx, { int i -> "success" } as IntFunctionEx) == "success"
+            TryInt.Success(2).toTry() == Try.Success(2)
+            TryInt.of(Try.Success(2)) == TryInt.Success(2)
+    }
+
+    def "a function that throws should produce a failure"() {
+        when:
+            def result = TryInt.Success(1).map({ int i -> throw new IOException("map") } as IntUnaryOperatorEx)
+        then:
+            result.isFailure()
+            result.toString() == "Failure{java.io.IOException: map}"
+    }
+
+    def "get on a failure should throw its exception as is"() {
+        when: TryInt.Failure(new IOException("checked")).get()
+        then: thrown(IOException)
+    }
+
+    def "TryLong and TryDouble should keep their values unboxed"() {
+        expect:
+            TryLong.asTry({ Long.MAX_VALUE } as LongSupplierEx).get() == Long.MAX_VALUE
+            Try.Success("9").mapToLong({ Long.parseLong(it) } as ToLongFunctionEx) == TryLong.Success(9L)
+            TryDouble.Success(Double.NaN) == TryDouble.Success(Double.NaN)
+            TryDouble.Success(1.5d).map({ double d -> d * 2 } as DoubleUnaryOperatorEx).get() == 3d
+    }
+
+    def "primitive results should be reported to the installed metrics"() {
+        setup:
+            def stats = new TryStats()
+            Try.setMetrics(stats)
+        when:
+            TryInt.asTry({ throw new IOException() } as IntSupplierEx)
+            TryInt.Success(1).map({ int i -> i } as IntUnaryOperatorEx)
+        then:
+            stats.failures(TryMetrics.Operation.AS_TRY) == 1
+            stats.successes(TryMetrics.Operation.MAP) == 1
+        cleanup:
+            Try.setMetrics(null)
+    }
+
+    def "equal failures should have equal hash codes"() {
+        expect:
+            TryInt.Failure(new IOException("a")) == TryInt.Failure(new IOException("b"))
+            TryInt.Failure(new IOException("a")).hashCode() == TryInt.Failure(new IOException("b")).hashCode()
+            TryLong.Failure(new IOException("a")).hashCode() == TryLong.Failure(new IOException("b")).hashCode()
+            TryDouble.Failure(new IOException("a")).hashCode() == TryDouble.Failure(new IOException("b")).hashCode()
+    }
+}
@@ -0,0 +1,145 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class RaceSpec extends Specification {
+
+    def pool = Executors.newCachedThreadPool()
+    def started = new AtomicInteger()
+    def running = new CountDownLatch(1)
+    def interrupted = new CountDownLatch(1)
+
+    def cleanup() {
+        pool.shutdownNow()
+    }
+
+    def slow(value) {
+        { ->
+            started.incrementAndGet()
+            running.countDown()
+            try {
+                Thread.sleep(10000)
+            } catch (InterruptedException e) {
+                interrupted.countDown()
+                throw e
+            }
+            value
+        } as SupplierEx
+    }
+
+    def fast(value) {
+        { -> started.incrementAndGet(); value } as SupplierEx
+    }
+
+    /**
+     * Completes only once a slow attempt runs, so that there is a loser to interrupt.
+     */
+    def fastAfterSlow(value) {
+        { -> running.await(); started.incrementAndGet(); value } as SupplierEx
+    }
+
+    def failing(String message) {
+        { -> started.incrementAndGet(); throw new IllegalStateException(message) } as SupplierEx
+    }
+
+    def "firstSuccess should return the fastest success and interrupt the losers"() {
+        expect:
+            Try.firstSuccess([slow(1), failing("boom"), fastAfterSlow(2)], pool) == Success(2)
+            interrupted.await(1, TimeUnit.SECONDS)
+    }
+
+    def "firstSuccess should aggregate the failures when every attempt fails"() {
+        when:
+            def result = Try.firstSuccess([failing("a"), failing("b")], pool)
+        then:
+            result.isFailure()
+            Try.exceptionOf(result).message == "All 2 attempts failed"
+            Try.exceptionOf(result).suppressed*.message.sort() == ["a", "b"]
+    }
+
+    def "get of an aggregated failure should throw it with its causes"() {
+        when:
+            Try.firstSuccess([failing("a"), failing("b")], pool).get()
+        then:
+            def e = thrown(RuntimeException)
+            e.message == "All 2 attempts failed"
+            e.suppressed*.message.sort() == ["a", "b"]
+    }
+
+    def "firstSuccess should reject an empty collection"() {
+        when:
+            Try.firstSuccess([], pool)
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    def "hedged should not start a backup when the first attempt is fast"() {
+        expect:
+            Try.hedged([fast(1), fast(2)], 1, TimeUnit.SECONDS, pool) == Success(1)
+            started.get() == 1
+    }
+
+    def "hedged should start a backup when the first attempt is slow"() {
+        expect:
+            Try.hedged([slow(1), fastAfterSlow(2)], 10, TimeUnit.MILLISECONDS, pool) == Success(2)
+            started.get() == 2
+            interrupted.await(1, TimeUnit.SECONDS)
+    }
+
+    def "hedged should start the next attempt at once after a failure"() {
+        when:
+            long start = System.nanoTime()
+            def result = Try.hedged([failing("a"), fast(2)], 10, TimeUnit.SECONDS, pool)
+        then:
+            result == Success(2)
+            System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5)
+    }
+
+    def "hedged should aggregate the failures when every attempt fails"() {
+        when:
+            def result = Try.hedged([failing("a"), failing("b"), failing("c")], 1, TimeUnit.MILLISECONDS, pool)
+        then:
+            Try.exceptionOf(result).suppressed*.message.sort() == ["a", "b", "c"]
+    }
+
+    def "firstSuccess should fail with the rejections when the executor rejects every attempt"() {
+        setup:
+            def rejecting = { throw new RejectedExecutionException("full") } as Executor
+        when:
+            def result = Try.firstSuccess([fast(1), fast(2)], rejecting)
+        then:
+            Try.exceptionOf(result).message == "All 2 attempts failed"
+            Try.exceptionOf(result).suppressed*.class == [RejectedExecutionException] * 2
+            started.get() == 0
+    }
+
+    def "hedged should keep the running attempts when a backup is rejected"() {
+        setup:
+            def rejected = new CountDownLatch(1)
+            def accepted = new AtomicInteger()
+            def oneAtATime = { Runnable task ->
+                if (accepted.getAndIncrement() == 0) pool.execute(task)
+                else {
+                    rejected.countDown()
+                    throw new RejectedExecutionException("full")
+                }
+            } as Executor
+            def first = { rejected.await(); 1 } as SupplierEx
+        expect:
+            Try.hedged([first, fast(2), fast(3)], 10, TimeUnit.MILLISECONDS, oneAtATime) == Success(1)
+            started.get() == 0
+    }
+}
@@ -0,0 +1,107 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.Predicate
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class RetrySpec extends Specification {
+
+    def calls = new AtomicInteger()
+    def policy = RetryPolicy.newBuilder().maxAttempts(4).backoff(1, 5, TimeUnit.MILLISECONDS).build()
+
+    def failTimes(int n) {
+        { -> if (calls.incrementAndGet() <= n) throw new IOException("attempt " + calls.get()); calls.get() } as SupplierEx
+    }
+
+    def "retry should return the first success"() {
+        expect:
+            Try.retry(failTimes(2), policy) == Success(3)
+            calls.get() == 3
+    }
+
+    def "retry should return the last failure once attempts are exhausted"() {
+        when:
+            def result = Try.retry(failTimes(10), policy)
+        then:
+            result.isFailure()
+            Try.exceptionOf(result).message == "attempt 4"
+            calls.get() == 4
+    }
+
+    def "retry should not retry failures rejected by the policy"() {
+        setup:
+            def onlyState = RetryPolicy.newBuilder().retryOn({ it instanceof IllegalStateException } as Predicate).build()
+        expect:
+            Try.retry(failTimes(10), onlyState).isFailure()
+            calls.get() == 1
+    }
+
+    def "retry should never retry fatal errors"() {
+        when:
+            Try.retry({ calls.incrementAndGet(); throw new OutOfMemoryError() } as SupplierEx, policy)
+        then:
+            thrown(OutOfMemoryError)
+            calls.get() == 1
+    }
+
+    def "delays should grow exponentially up to the maximum"() {
+        setup:
+            def exact = RetryPolicy.newBuilder().backoff(10, 50, TimeUnit.NANOSECONDS).jitter(0).build()
+        expect:
+            (1..4).collect { exact.delayNanos(it) } == [10L, 20L, 40L, 50L]
+    }
+
+    def "jitter should only shorten delays"() {
+        setup:
+            def jittered = RetryPolicy.newBuilder().backoff(1000, 1000, TimeUnit.NANOSECONDS).jitter(0.5).build()
+        expect:
+            (1..100).every { def d = jittered.delayNanos(1); d >= 500 && d <= 1000 }
+    }
+
+    def "retryAsync should retry on the scheduler"() {
+        setup:
+            def scheduler = Executors.newSingleThreadScheduledExecutor()
+        when:
+            def future = Try.retryAsync(failTimes(3), policy, scheduler)
+        then:
+            future.get(1, TimeUnit.SECONDS) == Success(4)
+            calls.get() == 4
+        cleanup:
+            scheduler.shutdownNow()
+    }
+
+    def "retryAsync should fail when the scheduler rejects the first attempt"() {
+        setup:
+            def scheduler = Executors.newSingleThreadScheduledExecutor()
+            scheduler.shutdown()
+        expect:
+            Try.retryAsync(failTimes(0), policy, scheduler).get().isFailure()
+            calls.get() == 0
+    }
+
+    def "a throwing retryOn predicate should fail retry and complete retryAsync"() {
+        setup:
+            def scheduler = Executors.newSingleThreadScheduledExecutor()
+            def throwing = RetryPolicy.newBuilder().maxAttempts(4).backoff(1, 5, TimeUnit.MILLISECONDS)
+                    .retryOn({ throw new IllegalStateException("predicate") } as Predicate).build()
+        when:
+            def blocking = Try.retry(failTimes(3), throwing)
+            def async = Try.retryAsync(failTimes(3), throwing, scheduler).get(1, TimeUnit.SECONDS)
+        then:
+            blocking.isFailure()
+            Try.exceptionOf(blocking).message == "predicate"
+            async.isFailure()
+            Try.exceptionOf(async).message == "predicate"
+        cleanup:
+            scheduler.shutdownNow()
+    }
+}
@@ -0,0 +1,75 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class SingleFlightSpec extends Specification {
+
+    def threads = new CopyOnWriteArrayList<Thread>()
+    def pool = Executors.newFixedThreadPool(8, { r -> def t = new Thread(r); threads << t; t } as ThreadFactory)
+    def calls = new AtomicInteger()
+    def release = new CountDownLatch(1)
+
+    def cleanup() {
+        pool.shutdownNow()
+    }
+
+    def "concurrent blocking calls with the same key should share one execution"() {
+        setup:
+            def flight = new SingleFlight<String, Integer>()
+            def block = { calls.incrementAndGet(); release.await(); 42 } as SupplierEx
+            def joining = new CountDownLatch(8)
+        when:
+            def futures = (1..8).collect {
+                pool.submit({ joining.countDown(); flight.execute("k", block) } as Callable)
+            }
+            joining.await()
+            // every caller is parked inside execute: the owner on release, the others on the flight
+            while (threads.count { it.state == Thread.State.WAITING } < 8) Thread.yield()
+            def joined = flight.inFlight()
+            release.countDown()
+        then:
+            joined == 1
+            futures.collect { it.get(1, TimeUnit.SECONDS) } == [Success(42)] * 8
+            calls.get() == 1
+            flight.inFlight() == 0
+    }
+
+    def "failures should be shared the same way"() {
+        setup:
+            def flight = new SingleFlight<String, Integer>()
+            def block = { calls.incrementAndGet(); release.await(); throw new IOException() } as SupplierEx
+        when:
+            def first = flight.submit("k", block, pool)
+            def second = flight.submit("k", block, pool)
+            release.countDown()
+        then:
+            first.is(second)
+            first.get() == Failure(new IOException())
+            calls.get() == 1
+    }
+
+    def "nothing should be retained after completion"() {
+        setup: def flight = new SingleFlight<String, Integer>()
+        when:
+            flight.execute("k", { calls.incrementAndGet() } as SupplierEx)
+            flight.submit("k", { calls.incrementAndGet() } as SupplierEx, pool).get()
+        then:
+            calls.get() == 2
+            flight.inFlight() == 0
+    }
+}
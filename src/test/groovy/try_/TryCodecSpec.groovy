@@ -0,0 +1,104 @@
+package try_
+
+import option.Option
+import option.OptionCodec
+import spock.lang.Specification
+import utils.codec.ValueCodecs
+
+import java.nio.ByteBuffer
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * Specification for TryCodec.
+ *
+ * @since 18.10.26
+ */
+class TryCodecSpec extends Specification {
+
+    def buffer = ByteBuffer.allocateDirect(4096)
+
+    def roundTrip(TryCodec codec, Try result) {
+        buffer.clear()
+        codec.write(result, buffer)
+        buffer.flip()
+        def decoded = codec.read(buffer)
+        assert !buffer.hasRemaining()
+        decoded
+    }
+
+    def "successes should survive a round trip"() {
+        setup: def codec = TryCodec.of(OptionCodec.of(ValueCodecs.LONG))
+        expect:
+            roundTrip(codec, Success(Option.Some(5L))) == Success(Option.Some(5L))
+            roundTrip(codec, Success(Option.None())) == Success(Option.None())
+            roundTrip(codec, Success(null)).is(Success(null))
+    }
+
+    def "a failure should keep the exception class and message without a stack trace by default"() {
+        when:
+            def exception = Try.exceptionOf(roundTrip(TryCodec.of(ValueCodecs.INT), Failure(new IOException("disk full"))))
+        then:
+            exception.class == IOException
+            exception.message == "disk full"
+            exception.stackTrace.length == 0
+    }
+
+    def "a failure should keep the top frames when enabled"() {
+        setup:
+            def original = new IllegalStateException("bad state")
+        when:
+            def exception = Try.exceptionOf(roundTrip(TryCodec.of(ValueCodecs.INT).withStackTrace(2), Failure(original)))
+        then:
+            exception.class == IllegalStateException
+            exception.stackTrace as List == original.stackTrace.take(2) as List
+    }
+
+    def "an exception that cannot be recreated should be decoded as DecodedException"() {
+        setup:
+            def buffer = ByteBuffer.allocate(64)
+            buffer.put((byte) 0x03)
+            ValueCodecs.writeString("com.example.MissingException", buffer)
+            ValueCodecs.writeString("gone", buffer)
+            buffer.putInt(0)
+            buffer.flip()
+        when:
+            def exception = Try.exceptionOf(TryCodec.of(ValueCodecs.INT).read(buffer))
+        then:
+            exception instanceof TryCodec.DecodedException
+            exception.className() == "com.example.MissingException"
+            exception.toString() == "com.example.MissingException: gone"
+    }
+
+    def "a fatal exception class should be decoded as DecodedException"() {
+        setup:
+            def buffer = ByteBuffer.allocate(64)
+            buffer.put((byte) 0x03)
+            ValueCodecs.writeString(className, buffer)
+            ValueCodecs.writeString("fatal", buffer)
+            buffer.putInt(0)
+            buffer.flip()
+        when:
+            def exception = Try.exceptionOf(TryCodec.of(ValueCodecs.INT).read(buffer))
+        then:
+            exception instanceof TryCodec.DecodedException
+            exception.className() == className
+        where:
+            className << ["java.lang.OutOfMemoryError", "java.lang.ThreadDeath", "java.lang.InterruptedException"]
+    }
+
+    def "a truncated failure should be rejected"() {
+        setup:
+            def buffer = ByteBuffer.allocate(32)
+            buffer.put((byte) 0x03)
+            ValueCodecs.writeString("x", buffer)
+            ValueCodecs.writeString(null, buffer)
+            buffer.putInt(Integer.MAX_VALUE)
+            buffer.flip()
+        when:
+            TryCodec.of(ValueCodecs.INT).read(buffer)
+        then:
+            thrown(java.nio.BufferUnderflowException)
+    }
+}
@@ -0,0 +1,71 @@
+package try_
+
+import spock.lang.Specification
+
+import java.util.stream.Collectors
+import java.util.stream.IntStream
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class TryCollectorsSpec extends Specification {
+
+    def e1 = new IOException("1")
+    def e2 = new IOException("2")
+
+    def "partitioning should split successes and failures in order"() {
+        when:
+            def partition = [Success(1), Failure(e1), Success(2), Failure(e2)].stream().collect(TryCollectors.partitioning())
+        then:
+            partition.successes() == [1, 2]
+            partition.failures() == [e1, e2]
+    }
+
+    def "partitioning should keep the encounter order of parallel streams"() {
+        setup:
+            def tries = (0..<10000).collect { it % 3 == 0 ? Failure(new IOException("" + it)) : Success(it) }
+        when:
+            def partition = tries.parallelStream().collect(TryCollectors.partitioning())
+        then:
+            partition.successes() == (0..<10000).findAll { it % 3 != 0 }
+            partition.failures()*.message == (0..<10000).findAll { it % 3 == 0 }*.toString()
+    }
+
+    def "toList should collect all values or the first failure"() {
+        expect:
+            [Success(1), Success(2)].stream().collect(TryCollectors.toList()) == Success([1, 2])
+            [].stream().collect(TryCollectors.toList()) == Success([])
+            [Success(1), Failure(e1), Failure(e2)].stream().collect(TryCollectors.toList()) == Failure(e1)
+    }
+
+    def "toList should return the first failure in encounter order for parallel streams"() {
+        setup:
+            def tries = (0..<10000).collect { it == 5000 || it == 9000 ? Failure(new IOException("" + it)) : Success(it) }
+        expect:
+            Try.exceptionOf(tries.parallelStream().collect(TryCollectors.toList())).message == "5000"
+            IntStream.range(0, 10000).boxed().parallel().map({ Success(it) } as java.util.function.Function).collect(TryCollectors.toList()).get() == (0..<10000).toList()
+    }
+
+    def "Try should stream and iterate over a success only"() {
+        expect:
+            Success(1).stream().collect(Collectors.toList()) == [1]
+            Failure(e1).stream().count() == 0
+            Success(1).iterator().toList() == [1]
+            !Failure(e1).iterator().hasNext()
+            Success(1).spliterator().getExactSizeIfKnown() == 1
+            Failure(e1).spliterator().getExactSizeIfKnown() == 0
+    }
+
+    def "the iterator of a success should throw NoSuchElementException when exhausted"() {
+        setup:
+            def it = Success(1).iterator()
+            it.next()
+        when:
+            it.next()
+        then:
+            thrown(NoSuchElementException)
+    }
+}
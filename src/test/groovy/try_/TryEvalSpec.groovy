@@ -0,0 +1,78 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.FunctionEx
+import utils.function.exceptional.SupplierEx
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class TryEvalSpec extends Specification {
+
+    static TryEval<Long> sum(long n, long acc) {
+        if (n == 0) return TryEval.now(Success(acc))
+        TryEval.defer({ sum(n - 1, acc + n) } as SupplierEx)
+    }
+
+    def "deep recursion through defer should not overflow the stack"() {
+        expect:
+            sum(1000000, 0).run() == Success(500000500000L)
+    }
+
+    def "long chains of steps should not overflow the stack"() {
+        setup:
+            TryEval<Integer> eval = TryEval.now(Success(0))
+            100000.times {
+                eval = it % 2 == 0 ? eval.map({ it + 1 } as FunctionEx) : eval.flatMap({ i -> TryEval.now(Success(i + 1)) } as FunctionEx)
+            }
+        expect:
+            eval.run() == Success(100000)
+    }
+
+    def "steps should behave as the Try methods"() {
+        setup:
+            def e = new IOException("boom")
+        expect:
+            TryEval.of({ 2 } as SupplierEx).map({ it * 21 } as FunctionEx).run() == Success(42)
+            TryEval.of({ throw e } as SupplierEx).map({ it * 21 } as FunctionEx).run() == Failure(e)
+            TryEval.now(Success(1)).map({ throw e } as FunctionEx).run() == Failure(e)
+            TryEval.now(Failure(e)).recover({ it.message } as FunctionEx).run() == Success("boom")
+            TryEval.now(Failure(e)).recoverWith({ TryEval.now(Success(7)) } as FunctionEx).map({ it + 1 } as FunctionEx).run() == Success(8)
+            TryEval.now(Success(1)).recover({ 0 } as FunctionEx).run() == Success(1)
+    }
+
+    def "a failure should skip the steps up to the next recovery"() {
+        setup:
+            def e = new IOException("boom")
+            def calls = 0
+        when:
+            def result = TryEval.now(Failure(e))
+                    .map({ calls++; it } as FunctionEx)
+                    .flatMap({ calls++; TryEval.now(Success(it)) } as FunctionEx)
+                    .recover({ -1 } as FunctionEx)
+                    .map({ it * 2 } as FunctionEx)
+                    .run()
+        then:
+            result == Success(-2)
+            calls == 0
+    }
+
+    def "fatal errors should be thrown"() {
+        when:
+            TryEval.of({ throw new OutOfMemoryError() } as SupplierEx).run()
+        then:
+            thrown(OutOfMemoryError)
+    }
+
+    def "a computation should be evaluated again on every run"() {
+        setup:
+            def calls = 0
+            def eval = TryEval.of({ ++calls } as SupplierEx)
+        expect:
+            eval.run() == Success(1)
+            eval.run() == Success(2)
+    }
+}
@@ -0,0 +1,119 @@
+package try_
+
+import com.google.common.util.concurrent.SettableFuture
+import spock.lang.Specification
+import utils.function.exceptional.ConsumerEx
+import utils.function.exceptional.FunctionEx
+import utils.function.exceptional.PredicateEx
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+import static try_.Try.Failure
+import static try_.Try.Success
+
+/**
+ * @since 18.10.26
+ */
+class TryFutureSpec extends Specification {
+
+    ExecutorService executor = Executors.newFixedThreadPool(2)
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def "asTry should complete with Success of the block result"() {
+        expect: TryFuture.asTry({ 1 } as SupplierEx, executor).get() == Success(1)
+    }
+
+    def "asTry should complete with Failure when the block throws"() {
+        expect: TryFuture.asTry({ throw new IOException() } as SupplierEx, executor).get() == Failure(new IOException())
+    }
+
+    def "combinators should run once the promise is completed"() {
+        setup:
+            def promise = TryFuture.<Integer> promise()
+            def result = promise.map({ it + 1 } as FunctionEx)
+                    .filter({ it > 1 } as PredicateEx)
+                    .flatMap({ i -> TryFuture.asTry({ i * 10 } as SupplierEx, executor) } as FunctionEx)
+        expect: !result.isDone()
+        when: promise.success(1)
+        then: result.get(1, TimeUnit.SECONDS) == Success(20)
+    }
+
+    def "recover and recoverWith should rescue a failed future"() {
+        setup:
+            def failed = TryFuture.<Integer> failed(new IOException())
+        expect:
+            failed.recover({ 5 } as FunctionEx).get() == Success(5)
+            failed.recoverWith({ TryFuture.successful(6) } as FunctionEx, executor).get() == Success(6)
+            failed.orElse({ TryFuture.successful(7) } as SupplierEx).get() == Success(7)
+    }
+
+    def "transform should pick the function by the result"() {
+        expect:
+            TryFuture.successful(1).transform({ TryFuture.successful(it + 1) } as FunctionEx,
+                    { TryFuture.successful(-1) } as FunctionEx).get() == Success(2)
+            TryFuture.failed(new IOException()).transform({ TryFuture.successful(1) } as FunctionEx,
+                    { TryFuture.successful(-1) } as FunctionEx).get() == Success(-1)
+    }
+
+    def "complete should only succeed once"() {
+        setup: def promise = TryFuture.<Integer> promise()
+        expect:
+            promise.success(1)
+            !promise.failure(new IOException())
+            promise.value().get() == Success(1)
+    }
+
+    def "onComplete should be invoked for callbacks registered before and after completion"() {
+        setup:
+            def promise = TryFuture.<Integer> promise()
+            def results = []
+            promise.onComplete({ results << it } as ConsumerEx)
+        when:
+            promise.success(3)
+            promise.onComplete({ results << it } as ConsumerEx)
+        then: results == [Success(3), Success(3)]
+    }
+
+    def "get with timeout should throw TimeoutException for a pending future"() {
+        when: TryFuture.promise().get(10, TimeUnit.MILLISECONDS)
+        then: thrown(TimeoutException)
+    }
+
+    def "CompletableFuture adapters should keep values and unwrap exceptions"() {
+        setup:
+            def source = new CompletableFuture<Integer>()
+            def future = TryFuture.fromCompletionStage(source.thenApply({ it } as java.util.function.Function))
+        when: source.completeExceptionally(new IOException())
+        then:
+            future.get() == Failure(new IOException())
+            TryFuture.successful(2).toCompletableFuture().get() == 2
+    }
+
+    def "a stage completing with a Throwable value should complete the future with a Failure"() {
+        setup:
+            def source = new CompletableFuture<Object>()
+            def future = TryFuture.fromCompletionStage(source)
+        when: source.complete(new IOException("value"))
+        then:
+            future.get(1, TimeUnit.SECONDS) == Failure(new IOException())
+    }
+
+    def "ListenableFuture adapters should keep values and unwrap exceptions"() {
+        setup:
+            def source = SettableFuture.<Integer> create()
+            def future = TryFuture.fromListenableFuture(source)
+        when: source.set(4)
+        then:
+            future.get() == Success(4)
+            TryFuture.successful(2).toListenableFuture().get() == 2
+            TryFuture.failed(new IOException()).toListenableFuture().isDone()
+    }
+}
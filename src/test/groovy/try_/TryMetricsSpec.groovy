@@ -0,0 +1,105 @@
+package try_
+
+import spock.lang.Specification
+import utils.function.exceptional.FunctionEx
+import utils.function.exceptional.SupplierEx
+
+import java.util.concurrent.TimeUnit
+
+import static try_.Try.Failure
+import static try_.Try.Success
+import static try_.TryMetrics.Operation.AS_TRY
+import static try_.TryMetrics.Operation.FLAT_MAP
+import static try_.TryMetrics.Operation.MAP
+import static try_.TryMetrics.Operation.RECOVER
+import static try_.TryMetrics.Operation.RECOVER_WITH
+
+/**
+ * @since 18.10.26
+ */
+class TryMetricsSpec extends Specification {
+
+    def stats = new TryStats()
+
+    def setup() {
+        Try.setMetrics(stats)
+    }
+
+    def cleanup() {
+        Try.setMetrics(null)
+    }
+
+    def "asTry should report successes and failures"() {
+        when:
+            Try.asTry({ 1 } as SupplierEx)
+            Try.asTry({ throw new IOException() } as SupplierEx)
+            Try.asTry({ throw new IOException() } as SupplierEx)
+            Try.asTry({ throw new IllegalStateException() } as SupplierEx)
+        then:
+            stats.successes(AS_TRY) == 1
+            stats.failures(AS_TRY) == 3
+            stats.failuresByException() == [(IOException): 2L, (IllegalStateException): 1L]
+    }
+
+    def "combinators should report under their own operation"() {
+        setup:
+            def e = new IOException()
+        when:
+            Success(1).map({ it + 1 } as FunctionEx)
+            Success(1).flatMap({ Failure(e) } as FunctionEx)
+            Failure(e).recover({ 0 } as FunctionEx)
+            Failure(e).recoverWith({ Success(0) } as FunctionEx)
+            Failure(e).map({ it + 1 } as FunctionEx)
+        then:
+            stats.successes(MAP) == 1
+            stats.failures(FLAT_MAP) == 1
+            stats.successes(RECOVER) == 1
+            stats.successes(RECOVER_WITH) == 1
+            stats.successes(AS_TRY) == 0
+            stats.failures(MAP) == 0
+    }
+
+    def "nothing should be reported once metrics are removed"() {
+        when:
+            Try.setMetrics(null)
+            Try.asTry({ 1 } as SupplierEx)
+        then:
+            Try.metrics().isEmpty()
+            stats.successes(AS_TRY) == 0
+    }
+
+    def "percentiles should bound the recorded latencies from above within 25%"() {
+        when:
+            (1..100).each { stats.onSuccess(AS_TRY, it * 1000L) }
+        then:
+            stats.latencyPercentile(AS_TRY, 50) in 50000L..62500L
+            stats.latencyPercentile(AS_TRY, 100) in 100000L..125000L
+            stats.latencyPercentile(MAP, 50) == 0
+    }
+
+    def "histogram buckets should cover the whole range of long"() {
+        expect:
+            [0L, 1L, 4L, 7L, 8L, 1000L, Long.MAX_VALUE].every { TryStats.upperBound(TryStats.bucket(it)) >= it }
+            TryStats.bucket(Long.MAX_VALUE) == 247
+            TryStats.upperBound(247) == Long.MAX_VALUE
+    }
+
+    def "andThen should report to both listeners"() {
+        setup:
+            def other = new TryStats()
+            Try.setMetrics(stats.andThen(other))
+        when:
+            Try.asTry({ 1 } as SupplierEx)
+        then:
+            stats.successes(AS_TRY) == 1
+            other.successes(AS_TRY) == 1
+    }
+
+    def "the JFR listener should accept events without a running recording"() {
+        setup:
+            Try.setMetrics(new JfrTryMetrics(0, TimeUnit.MILLISECONDS))
+        expect:
+            Try.asTry({ throw new IOException() } as SupplierEx).isFailure()
+            Try.asTry({ 1 } as SupplierEx) == Success(1)
+    }
+}
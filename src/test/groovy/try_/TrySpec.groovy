@@ -2,6 +2,7 @@ package try_
 
 import spock.lang.Specification
 import utils.function.exceptional.FunctionEx
+import utils.function.exceptional.PredicateEx
 import utils.function.exceptional.SupplierEx
 
 import static try_.Try.Failure
@@ -34,4 +35,155 @@ class TrySpec extends Specification {
         then: thrown(InterruptedException)
     }
 
+    def "filter that does not hold should produce a stackless NoSuchElementException by default"() {
+        when: Success(3).filter({ it > 5 } as PredicateEx).get()
+        then:
+            def exception = thrown(NoSuchElementException)
+            exception.message == "Predicate does not hold for 3"
+            exception.stackTrace.length == 0
+    }
+
+    def "filter should produce a fully traced exception when full stack traces are enabled"() {
+        setup: Try.setFullStackTraces(true)
+        when: Success(3).filter({ it > 5 } as PredicateEx).get()
+        then:
+            def exception = thrown(NoSuchElementException)
+            exception.class == NoSuchElementException
+            exception.stackTrace.length > 0
+        cleanup: Try.setFullStackTraces(false)
+    }
+
+    def "failed on Success should not share its exception between calls"() {
+        setup:
+            def first = Try.exceptionOf(Success(1).failed())
+        when:
+            first.addSuppressed(new IOException())
+        then:
+            first instanceof UnsupportedOperationException
+            first.stackTrace.length == 0
+            Try.exceptionOf(Success(2).failed()).suppressed.length == 0
+    }
+
+    def "sequence should return Success of all values or the first Failure"() {
+        expect:
+            Try.sequence([Success(1), Success(2)]) == Success([1, 2])
+            Try.sequence([Success(1), Failure(new IOException()), Failure(new IllegalStateException())]) ==
+                    Failure(new IOException())
+    }
+
+    def "traverse should stop applying the function after the first Failure"() {
+        setup: def applied = []
+        when:
+            def result = Try.traverse(["1", "x", "3"], { s ->
+                applied << s
+                Try.asTry({ Integer.valueOf(s) } as SupplierEx)
+            } as FunctionEx)
+        then:
+            result == Failure(new NumberFormatException())
+            applied == ["1", "x"]
+    }
+
+    def "traverseParallel should keep the input order"() {
+        setup: def values = (1..10000).collect { it }
+        expect: Try.traverseParallel(values, { Success(it * 2) } as FunctionEx) == Success(values.collect { it * 2 })
+    }
+
+    def "sequence, traverse and traverseParallel should all return a mutable list"() {
+        setup:
+            def lists = [Try.sequence([Success(1)]).get(),
+                         Try.traverse([1], { Success(it) } as FunctionEx).get(),
+                         Try.traverseParallel([1], { Success(it) } as FunctionEx).get()]
+        when:
+            lists.each { it.add(2) }
+        then:
+            lists == [[1, 2]] * 3
+    }
+
+    def "traverseParallel should return a Failure when any element fails"() {
+        setup: def values = (1..10000).collect { it }
+        expect:
+            Try.traverseParallel(values, { it == 5000 ? Failure(new IOException()) : Success(it) } as FunctionEx) ==
+                    Failure(new IOException())
+    }
+
+    def "pipeline should behave like the equivalent chain of Try calls"() {
+        setup:
+            def pipeline = Try.<String>pipeline()
+                    .map({ String s -> Integer.valueOf(s) } as FunctionEx)
+                    .filter({ it >= 0 } as PredicateEx)
+                    .flatMap({ it == 0 ? Failure(new ArithmeticException()) : Success(100.intdiv(it)) } as FunctionEx)
+        expect:
+            pipeline.apply("4") == Success(25)
+            pipeline.apply("x") == Failure(new NumberFormatException())
+            pipeline.apply("-1").isFailure()
+            pipeline.apply("0") == Failure(new ArithmeticException())
+            pipeline.apply(Failure(new IOException())) == Failure(new IOException())
+    }
+
+    def "pipeline recovery steps should only apply to failures"() {
+        setup:
+            def pipeline = Try.<String>pipeline()
+                    .map({ String s -> Integer.valueOf(s) } as FunctionEx)
+                    .recover({ -1 } as FunctionEx)
+                    .map({ it * 2 } as FunctionEx)
+                    .recoverWith({ Success(0) } as FunctionEx)
+        expect:
+            pipeline.apply("3") == Success(6)
+            pipeline.apply("x") == Success(-2)
+    }
+
+    def "pipeline steps returning a Throwable should fail like the Try chain"() {
+        setup:
+            def toException = { new IOException(it.toString()) } as FunctionEx
+            def mapped = Try.<String>pipeline().map(toException)
+            def recovered = Try.<String>pipeline().recover(toException)
+        expect:
+            mapped.apply("a") == Success("a").map(toException)
+            mapped.apply("a") == Failure(new IOException())
+            recovered.apply(Failure(new ArithmeticException())) == Failure(new ArithmeticException()).recover(toException)
+            recovered.apply(Failure(new ArithmeticException())) == Failure(new IOException())
+    }
+
+    def "pipeline steps returning a null Try should end the chain like the Try chain"() {
+        setup:
+            def nothing = { null } as FunctionEx
+        expect:
+            Success("a").flatMap(nothing) == null
+            Try.<String>pipeline().flatMap(nothing).apply("a") == null
+            Failure(new IOException()).recoverWith(nothing) == null
+            Try.<String>pipeline().recoverWith(nothing).apply(Failure(new IOException())) == null
+        when:
+            Try.<String>pipeline().flatMap(nothing).map({ it } as FunctionEx).apply("a")
+        then:
+            thrown(NullPointerException)
+    }
+
+    def "fold should apply the function of the case"() {
+        setup:
+            def onFailure = { it.class.simpleName } as FunctionEx
+            def onSuccess = { it * 2 } as FunctionEx
+        expect:
+            Success(3).fold(onFailure, onSuccess) == 6
+            Failure(new IOException()).fold(onFailure, onSuccess) == "IOException"
+    }
+
+    def "fold should rethrow the exception of the function"() {
+        when: Success(3).fold({ it } as FunctionEx, { throw new IOException("fold") } as FunctionEx)
+        then: thrown(IOException)
+    }
+
+    def "Success of null, booleans and small integers should be shared"() {
+        expect:
+            Success(null).is(Try.asTry({ null } as SupplierEx))
+            Success(false).is(Success(Boolean.FALSE))
+            Success(Integer.valueOf(0)).is(Try.asTry({ 0 } as SupplierEx))
+            !Success(Integer.valueOf(1000)).is(Success(Integer.valueOf(1000)))
+    }
+
+    def "intern should return one Success per distinct value"() {
+        setup: def key = "interned-" + 42
+        expect:
+            Try.intern(key).is(Try.intern(new String(key)))
+            Try.intern(key) == Success(key)
+    }
 }
@@ -0,0 +1,61 @@
+package utils.control
+
+import spock.lang.Specification
+
+/**
+ * @since 18.10.26
+ */
+class ErrorClassifierSpec extends Specification {
+
+    def cleanup() {
+        ErrorClassifier.reset()
+    }
+
+    def "default rules should match the historical policy"() {
+        expect:
+            Errors.isFatal(t) == fatal
+            Errors.isNonFatal(t) == !fatal
+        where:
+            t                              | fatal
+            new StackOverflowError()       | false
+            new OutOfMemoryError()         | true
+            new ThreadDeath()              | true
+            new InterruptedException()     | true
+            new NoClassDefFoundError()     | true
+            new IOException()              | false
+            new RuntimeException()         | false
+            new AssertionError()           | false
+    }
+
+    def "registered rules should override the defaults"() {
+        when:
+            ErrorClassifier.registerNonFatal(InterruptedException)
+            ErrorClassifier.registerFatal(IllegalStateException)
+        then:
+            !Errors.isFatal(new InterruptedException())
+            Errors.isFatal(new IllegalStateException())
+            Errors.isFatal(new OutOfMemoryError())
+    }
+
+    def "rules should apply to subclasses and the latest rule should win"() {
+        when:
+            ErrorClassifier.registerFatal(IOException)
+            ErrorClassifier.registerNonFatal(FileNotFoundException)
+        then:
+            Errors.isFatal(new EOFException())
+            !Errors.isFatal(new FileNotFoundException())
+    }
+
+    def "a registration should invalidate memoized decisions"() {
+        expect:
+            !Errors.isFatal(new IOException())
+        when:
+            ErrorClassifier.registerFatal(IOException)
+        then:
+            Errors.isFatal(new IOException())
+        when:
+            ErrorClassifier.reset()
+        then:
+            !Errors.isFatal(new IOException())
+    }
+}